@@ -0,0 +1,269 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.codegen;
+
+import grevend.declarativefx.util.PropertyAccessor;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WritableValue;
+import javafx.scene.Node;
+
+import java.io.IOException;
+import java.lang.reflect.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Generates {@code grevend.declarativefx.property.FXProperties}, the typed property descriptors of
+ * every node class returned by the factory methods of {@code Layout} and {@code Controls}.
+ * <p>
+ * Run it through the {@code codegen} Maven profile, e.g. {@code mvn -P codegen process-classes},
+ * and commit the regenerated source.
+ */
+public class PropertyDescriptorGenerator {
+
+    private static final String PACKAGE = "grevend.declarativefx.property";
+    private static final String CLASS = "FXProperties";
+    private static final List<String> SOURCES = List.of(
+        "grevend.declarativefx.component.Layout", "grevend.declarativefx.component.Controls");
+
+    public static void main(String[] args) throws IOException, ClassNotFoundException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: PropertyDescriptorGenerator <source root> <file with license header>");
+        }
+        var nodeClasses = new TreeMap<String, Class<?>>();
+        for (String source : SOURCES) {
+            for (Method method : Class.forName(source).getMethods()) {
+                var nodeClass = nodeClass(method);
+                if (Modifier.isStatic(method.getModifiers()) && nodeClass != null) {
+                    nodeClasses.put(nodeClass.getName(), nodeClass);
+                }
+            }
+        }
+        var declarations = new TreeMap<String, Map<String, Method>>();
+        var declaringClasses = new HashMap<String, Class<?>>();
+        for (Class<?> nodeClass : nodeClasses.values()) {
+            for (Method method : nodeClass.getMethods()) {
+                var declaringClass = method.getDeclaringClass();
+                if (!method.isBridge() && PropertyAccessor.isPropertyMethod(method) &&
+                    Modifier.isPublic(declaringClass.getModifiers())) {
+                    var simpleName = declaringClass.getSimpleName();
+                    var previous = declaringClasses.putIfAbsent(simpleName, declaringClass);
+                    if (previous != null && previous != declaringClass) {
+                        throw new IllegalStateException("Ambiguous node class name " + simpleName + ".");
+                    }
+                    declarations.computeIfAbsent(simpleName, name -> new TreeMap<>())
+                        .putIfAbsent(PropertyAccessor.propertyName(method), method);
+                }
+            }
+        }
+        var root = Path.of(args[0]);
+        var file = root.resolve(PACKAGE.replace('.', '/')).resolve(CLASS + ".java");
+        Files.createDirectories(file.getParent());
+        var licensed = Files.readString(Path.of(args[1]), StandardCharsets.UTF_8);
+        var header = licensed.substring(0, licensed.indexOf("*/") + 2) + System.lineSeparator();
+        Files.writeString(file, generate(header, declarations, declaringClasses), StandardCharsets.UTF_8);
+        System.out.println("Generated " + file + " for " + nodeClasses.size() + " node classes.");
+    }
+
+    private static Class<?> nodeClass(Method method) {
+        var returnType = method.getGenericReturnType();
+        if (returnType instanceof ParameterizedType) {
+            var argument = ((ParameterizedType) returnType).getActualTypeArguments()[0];
+            if (argument instanceof ParameterizedType) {
+                argument = ((ParameterizedType) argument).getRawType();
+            }
+            if (argument instanceof Class && Node.class.isAssignableFrom((Class<?>) argument)) {
+                return (Class<?>) argument;
+            }
+        }
+        return null;
+    }
+
+    private static String generate(String header, Map<String, Map<String, Method>> declarations, Map<String, Class<?>> declaringClasses) {
+        var builder = new StringBuilder(header);
+        builder.append("\npackage ").append(PACKAGE).append(";\n\n")
+            .append("import javafx.beans.value.ObservableValue;\n")
+            .append("import org.jetbrains.annotations.NotNull;\n")
+            .append("import org.jetbrains.annotations.Nullable;\n\n")
+            .append("/**\n")
+            .append(" * Typed property descriptors of the node classes used by {@link grevend.declarativefx.component.Layout}\n")
+            .append(" * and {@link grevend.declarativefx.component.Controls}.\n")
+            .append(" * <p>\n")
+            .append(" * Generated by {@code PropertyDescriptorGenerator}, do not edit. Regenerate with\n")
+            .append(" * {@code mvn -P codegen process-classes}.\n")
+            .append(" *\n")
+            .append(" * @since 0.7.8\n")
+            .append(" */\n")
+            .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+            .append("public final class ").append(CLASS).append(" {\n\n")
+            .append("    private ").append(CLASS).append("() {}\n\n");
+        var candidates = new TreeMap<String, List<String>>();
+        var depths = new HashMap<String, Integer>();
+        declarations.forEach((simpleName, properties) -> {
+            var declaringClass = declaringClasses.get(simpleName);
+            var generic = declaringClass.getTypeParameters().length > 0;
+            var nodeName = declaringClass.getCanonicalName();
+            builder.append("    public static final class ").append(simpleName).append(" {\n\n");
+            properties.forEach((name, method) -> {
+                var constant = constant(method);
+                var valueType = generic ? null : valueType(method.getGenericReturnType(), Map.of());
+                var writable = WritableValue.class.isAssignableFrom(method.getReturnType());
+                builder.append("        public static final PropertyDescriptor<").append(nodeName).append(", ")
+                    .append(valueType == null ? "java.lang.Object" : valueType).append("> ").append(constant)
+                    .append(" =\n            new PropertyDescriptor<>(\"").append(name).append("\", ")
+                    .append(nodeName).append(".class, ")
+                    .append(valueType == null ?
+                        "node -> cast(node." + method.getName() + "())" : nodeName + "::" + method.getName())
+                    .append(", ").append(writable).append(");\n\n");
+                var reference = simpleName + "." + constant;
+                candidates.computeIfAbsent(name, key -> new ArrayList<>()).add(reference);
+                depths.put(reference, depth(declaringClass));
+            });
+            builder.append("        private ").append(simpleName).append("() {}\n\n    }\n\n");
+        });
+        builder.append("    /**\n")
+            .append("     * @param nodeClass the class of the node\n")
+            .append("     * @param property  the lower case name of the property\n")
+            .append("     *\n")
+            .append("     * @return the most specific descriptor of the property or {@code null} if it is unknown\n")
+            .append("     */\n")
+            .append("    @Nullable\n")
+            .append("    public static PropertyDescriptor<?, ?> find(@NotNull Class<?> nodeClass, @NotNull String property) {\n")
+            .append("        switch (property) {\n");
+        candidates.forEach((name, references) -> {
+            references.sort(Comparator.comparing(depths::get, Comparator.reverseOrder()));
+            builder.append("            case \"").append(name).append("\":\n")
+                .append("                return PropertyDescriptor.select(nodeClass, ")
+                .append(String.join(", ", references)).append(");\n");
+        });
+        builder.append("            default:\n")
+            .append("                return null;\n")
+            .append("        }\n")
+            .append("    }\n\n")
+            .append("    @NotNull\n")
+            .append("    private static <T> ObservableValue<T> cast(@NotNull ObservableValue<?> value) {\n")
+            .append("        return (ObservableValue<T>) value;\n")
+            .append("    }\n\n")
+            .append("}\n");
+        return builder.toString();
+    }
+
+    private static String constant(Method method) {
+        var name = method.getName().substring(0, method.getName().length() - "Property".length());
+        var builder = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            var c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                builder.append('_');
+            }
+            builder.append(Character.toUpperCase(c));
+        }
+        return builder.toString();
+    }
+
+    private static int depth(Class<?> clazz) {
+        var depth = 0;
+        for (var current = clazz; current != null; current = current.getSuperclass()) {
+            depth++;
+        }
+        return depth;
+    }
+
+    /**
+     * Resolves the type argument of {@link ObservableValue} implemented by the specified type.
+     *
+     * @return the source representation of the value type or {@code null} if it depends on
+     * an unbound type variable
+     */
+    private static String valueType(Type type, Map<TypeVariable<?>, String> bindings) {
+        Class<?> raw;
+        var arguments = new HashMap<TypeVariable<?>, String>();
+        if (type instanceof ParameterizedType) {
+            raw = (Class<?>) ((ParameterizedType) type).getRawType();
+            var actual = ((ParameterizedType) type).getActualTypeArguments();
+            for (int i = 0; i < actual.length; i++) {
+                arguments.put(raw.getTypeParameters()[i], typeName(actual[i], bindings));
+            }
+        } else if (type instanceof Class) {
+            raw = (Class<?>) type;
+        } else {
+            return null;
+        }
+        if (raw == ObservableValue.class) {
+            return arguments.get(raw.getTypeParameters()[0]);
+        }
+        var supertypes = new ArrayList<Type>(Arrays.asList(raw.getGenericInterfaces()));
+        if (raw.getGenericSuperclass() != null) {
+            supertypes.add(raw.getGenericSuperclass());
+        }
+        for (Type supertype : supertypes) {
+            if (ObservableValue.class.isAssignableFrom(erasure(supertype))) {
+                return valueType(supertype, arguments);
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> erasure(Type type) {
+        return type instanceof ParameterizedType ? (Class<?>) ((ParameterizedType) type).getRawType() :
+            type instanceof Class ? (Class<?>) type : Object.class;
+    }
+
+    private static String typeName(Type type, Map<TypeVariable<?>, String> bindings) {
+        if (type instanceof Class) {
+            return ((Class<?>) type).getCanonicalName();
+        } else if (type instanceof TypeVariable) {
+            return bindings.get(type);
+        } else if (type instanceof GenericArrayType) {
+            var component = typeName(((GenericArrayType) type).getGenericComponentType(), bindings);
+            return component == null ? null : component + "[]";
+        } else if (type instanceof WildcardType) {
+            var wildcard = (WildcardType) type;
+            if (wildcard.getLowerBounds().length > 0) {
+                var bound = typeName(wildcard.getLowerBounds()[0], bindings);
+                return bound == null ? null : "? super " + bound;
+            } else if (wildcard.getUpperBounds()[0] != Object.class) {
+                var bound = typeName(wildcard.getUpperBounds()[0], bindings);
+                return bound == null ? null : "? extends " + bound;
+            }
+            return "?";
+        } else if (type instanceof ParameterizedType) {
+            var parameterized = (ParameterizedType) type;
+            var names = new ArrayList<String>();
+            for (Type argument : parameterized.getActualTypeArguments()) {
+                var name = typeName(argument, bindings);
+                if (name == null) {
+                    return null;
+                }
+                names.add(name);
+            }
+            return ((Class<?>) parameterized.getRawType()).getCanonicalName() + "<" + String.join(", ", names) + ">";
+        }
+        return null;
+    }
+
+}
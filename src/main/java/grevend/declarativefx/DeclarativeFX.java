@@ -24,9 +24,14 @@
 
 package grevend.declarativefx;
 
+import grevend.declarativefx.component.BackgroundBuild;
 import grevend.declarativefx.component.Component;
+import grevend.declarativefx.component.ComponentIndex;
+import grevend.declarativefx.component.SubscriptionTracker;
+import grevend.declarativefx.query.Selector;
 import grevend.declarativefx.util.MarkedTreeItem;
 import grevend.declarativefx.util.Verbosity;
+import javafx.application.Platform;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -43,7 +48,13 @@ import org.jetbrains.annotations.Nullable;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static grevend.declarativefx.component.Layout.TreeView;
 
@@ -81,6 +92,7 @@ public class DeclarativeFX {
         var stage = new Stage();
         var scene = new Scene(component.getNode());
         var declarativeFX = new DeclarativeFX(component, stage);
+        component.mount();
         stage.initModality(modality);
         stage.initOwner(parentStage);
         stage.setScene(scene);
@@ -89,6 +101,62 @@ public class DeclarativeFX {
         return declarativeFX;
     }
 
+    /**
+     * Builds a component tree on a worker thread and shows it as the root of the stage.
+     *
+     * @see #buildAsync(Supplier, Consumer, Executor)
+     * @since 0.7.8
+     */
+    @NotNull
+    public static <C extends Component<? extends Parent>> CompletableFuture<C> buildAsync(@NotNull Supplier<C> supplier) {
+        return buildAsync(supplier, component -> getInstance().show(component), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @see #buildAsync(Supplier, Consumer, Executor)
+     * @since 0.7.8
+     */
+    @NotNull
+    public static <C extends Component<? extends Node>> CompletableFuture<C> buildAsync(@NotNull Supplier<C> supplier, @NotNull Consumer<C> attach) {
+        return buildAsync(supplier, attach, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds a component tree on {@code executor} with its subscriptions deferred, then attaches
+     * it and establishes the subscriptions in a single operation on the application thread.
+     *
+     * @param supplier builds the component tree, must not touch the live scene.
+     * @param attach   attaches the built tree, e.g. by adding it to a container.
+     * @param executor the executor the tree is built on.
+     *
+     * @return a future completed with the component tree once it has been attached.
+     *
+     * @since 0.7.8
+     */
+    @NotNull
+    public static <C extends Component<? extends Node>> CompletableFuture<C> buildAsync(@NotNull Supplier<C> supplier, @NotNull Consumer<C> attach, @NotNull Executor executor) {
+        var future = new CompletableFuture<C>();
+        CompletableFuture.supplyAsync(() -> BackgroundBuild.build(supplier), executor)
+            .whenComplete((component, throwable) -> {
+                if (throwable != null) {
+                    future.completeExceptionally(throwable);
+                } else {
+                    Platform.runLater(() -> {
+                        if (!future.isDone()) {
+                            try {
+                                attach.accept(component);
+                                BackgroundBuild.attach(component);
+                                future.complete(component);
+                            } catch (RuntimeException exception) {
+                                future.completeExceptionally(exception);
+                            }
+                        }
+                    });
+                }
+            });
+        return future;
+    }
+
     @NotNull
     public static WritableImage snapshot(@NotNull Component<? extends Node> component) {
         return component.getNode().snapshot(null, null);
@@ -140,71 +208,55 @@ public class DeclarativeFX {
     @Nullable
     @Contract(pure = true)
     public static Component<? extends Node> findById(@NotNull String id, @NotNull Component<? extends Parent> root) {
-        for (Component<?> component : root) {
-            var componentId = component.get("id");
-            if (componentId != null && componentId.equals(id)) {
-                return component;
-            }
-        }
-        return null;
+        return ComponentIndex.of(root).findById(id);
     }
 
     @NotNull
-    @SuppressWarnings("unchecked")
     public static Collection<Component<? extends Node>> findByClass(@NotNull String clazz, @NotNull Component<? extends Parent> root) {
-        var components = new ArrayList<Component<? extends Node>>();
-        for (Component<?> component : root) {
-            if (((Collection<String>) Objects.requireNonNull(component.get("styleclass"))).contains(clazz)) {
-                components.add(component);
-            }
-        }
-        return components;
+        return ComponentIndex.of(root).findByClass(clazz);
     }
 
     @NotNull
-    @SuppressWarnings("unchecked")
     public static <N extends Node> Collection<Component<N>> findByNode(@NotNull Class<N> clazz, @NotNull Component<? extends Parent> root) {
-        var components = new ArrayList<Component<N>>();
-        for (Component<?> component : root) {
-            if (clazz.isInstance(component.getNode())) {
-                components.add((Component<N>) component);
-            }
-        }
-        return components;
+        return ComponentIndex.of(root).findByNode(clazz);
     }
 
     @Nullable
     @Contract(pure = true)
     public static Component<? extends Node> findByMarker(int marker, @NotNull Component<? extends Parent> root) {
-        for (Component<?> component : root) {
-            var componentMarker = component.get("marker");
-            if (componentMarker != null && componentMarker.equals(marker)) {
-                return component;
-            }
-        }
-        return null;
+        return ComponentIndex.of(root).findByMarker(marker);
     }
 
     @NotNull
     public static Collection<Component<? extends Node>> findMarked(@NotNull Component<? extends Parent> root) {
-        var components = new ArrayList<Component<? extends Node>>();
-        for (Component<?> component : root) {
-            if (component.isMarked()) {
-                components.add(component);
-            }
-        }
-        return components;
+        return ComponentIndex.of(root).findMarked();
     }
 
     @NotNull
     public static Collection<Component<? extends Node>> findDecorated(@NotNull Component<? extends Parent> root) {
-        var components = new ArrayList<Component<? extends Node>>();
-        for (Component<?> component : root) {
-            if (component.isDecorated()) {
-                components.add(component);
-            }
-        }
-        return components;
+        return ComponentIndex.of(root).findDecorated();
+    }
+
+    /**
+     * @param selector a CSS-like selector, see {@link Selector}.
+     *
+     * @return all descendants of {@code root} matching {@code selector} in depth-first order.
+     *
+     * @throws grevend.declarativefx.query.SelectorException if the selector is malformed.
+     * @since 0.7.8
+     */
+    @NotNull
+    public static List<Component<? extends Node>> query(@NotNull String selector, @NotNull Component<? extends Parent> root) {
+        return Selector.compile(selector).query(root);
+    }
+
+    /**
+     * @see #query(String, Component)
+     * @since 0.7.8
+     */
+    @Nullable
+    public static Component<? extends Node> queryFirst(@NotNull String selector, @NotNull Component<? extends Parent> root) {
+        return Selector.compile(selector).queryFirst(root);
     }
 
     @NotNull
@@ -221,7 +273,11 @@ public class DeclarativeFX {
 
     @Contract(pure = true)
     public void show(@NotNull Component<? extends Parent> component) {
+        if (this.root != null && this.root != component) {
+            this.root.unmount();
+        }
         this.root = component;
+        component.mount();
         stage.setScene((this.scene = new Scene(component.getNode())));
         stage.show();
     }
@@ -291,6 +347,30 @@ public class DeclarativeFX {
         }
     }
 
+    /**
+     * Lists every component that still holds subscriptions made through {@code on}, {@code bind}
+     * or {@code compute} although its node is no longer part of a scene.
+     *
+     * @param verbosity the verbosity used to stringify the components.
+     *
+     * @return one line per leaking component.
+     *
+     * @throws IllegalStateException if not in DEBUG mode.
+     * @since 0.7.8
+     */
+    @NotNull
+    public String reportLeaks(@NotNull Verbosity verbosity) {
+        if (this.mode != Mode.DEBUG) {
+            throw new IllegalStateException("Method reportLeaks can only be used in DEBUG mode.");
+        } else {
+            var builder = new StringBuilder();
+            for (Component<? extends Node> component : SubscriptionTracker.findLeaks()) {
+                builder.append(component.stringify(verbosity)).append(System.lineSeparator());
+            }
+            return builder.toString();
+        }
+    }
+
     @NotNull
     public String stringifyHierarchy(@NotNull Verbosity verbosity) {
         var builder = new StringBuilder();
@@ -306,71 +386,43 @@ public class DeclarativeFX {
     @Nullable
     @Contract(pure = true)
     public Component<? extends Node> findById(@NotNull String id) {
-        for (Component<?> component : this.root) {
-            var componentId = component.get("id");
-            if (componentId != null && componentId.equals(id)) {
-                return component;
-            }
-        }
-        return null;
+        return findById(id, Objects.requireNonNull(this.root));
     }
 
     @NotNull
-    @SuppressWarnings("unchecked")
     public Collection<Component<? extends Node>> findByClass(@NotNull String clazz) {
-        var components = new ArrayList<Component<? extends Node>>();
-        for (Component<?> component : this.root) {
-            if (((Collection<String>) Objects.requireNonNull(component.get("styleclass"))).contains(clazz)) {
-                components.add(component);
-            }
-        }
-        return components;
+        return findByClass(clazz, Objects.requireNonNull(this.root));
     }
 
     @NotNull
-    @SuppressWarnings("unchecked")
     public <N extends Node> Collection<Component<N>> findByNode(@NotNull Class<N> clazz) {
-        var components = new ArrayList<Component<N>>();
-        for (Component<?> component : this.root) {
-            if (clazz.isInstance(component.getNode())) {
-                components.add((Component<N>) component);
-            }
-        }
-        return components;
+        return findByNode(clazz, Objects.requireNonNull(this.root));
     }
 
     @Nullable
     @Contract(pure = true)
     public Component<? extends Node> findByMarker(int marker) {
-        for (Component<?> component : this.root) {
-            var componentMarker = component.get("marker");
-            if (componentMarker != null && componentMarker.equals(marker)) {
-                return component;
-            }
-        }
-        return null;
+        return findByMarker(marker, Objects.requireNonNull(this.root));
     }
 
     @NotNull
     public Collection<Component<? extends Node>> findMarked() {
-        var components = new ArrayList<Component<? extends Node>>();
-        for (Component<?> component : this.root) {
-            if (component.isMarked()) {
-                components.add(component);
-            }
-        }
-        return components;
+        return findMarked(Objects.requireNonNull(this.root));
     }
 
     @NotNull
     public Collection<Component<? extends Node>> findDecorated() {
-        var components = new ArrayList<Component<? extends Node>>();
-        for (Component<?> component : this.root) {
-            if (component.isDecorated()) {
-                components.add(component);
-            }
-        }
-        return components;
+        return findDecorated(Objects.requireNonNull(this.root));
+    }
+
+    @NotNull
+    public List<Component<? extends Node>> query(@NotNull String selector) {
+        return query(selector, Objects.requireNonNull(this.root));
+    }
+
+    @Nullable
+    public Component<? extends Node> queryFirst(@NotNull String selector) {
+        return queryFirst(selector, Objects.requireNonNull(this.root));
     }
 
     @Nullable
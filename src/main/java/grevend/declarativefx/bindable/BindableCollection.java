@@ -24,6 +24,7 @@
 
 package grevend.declarativefx.bindable;
 
+import grevend.declarativefx.scheduler.PriorityScheduler;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import org.intellij.lang.annotations.Flow;
@@ -32,19 +33,24 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 public class BindableCollection<E> implements Collection<E> {
 
     private final Collection<E> collection;
-    private final Collection<BiConsumer<Change, Collection<? extends E>>> consumers;
+    private Collection<BiConsumer<Change, Collection<? extends E>>> consumers;
+    private int modifications;
+    private CompletableFuture<BindableCollection<E>> bulk;
+    private Collection<E> view;
 
     @Contract(pure = true)
     private BindableCollection(@NotNull Collection<E> collection) {
         this.collection = collection;
-        this.consumers = new ArrayList<>();
     }
 
     @Contract(" -> new")
@@ -70,19 +76,38 @@ public class BindableCollection<E> implements Collection<E> {
     }
 
     public void subscribe(@NotNull BiConsumer<Change, Collection<? extends E>> consumer) {
+        if (this.consumers == null) {
+            this.consumers = new ArrayList<>(2);
+        }
         this.consumers.add(consumer);
     }
 
     public void unsubscribe(@NotNull BiConsumer<Change, Collection<? extends E>> consumer) {
-        this.consumers.remove(consumer);
+        if (this.consumers != null) {
+            this.consumers.remove(consumer);
+        }
     }
 
+    /**
+     * Returns a view of the underlying collection.  Writes through the view are not
+     * published to the consumers, but they are noticed by pending bulk operations.
+     * The view is a {@link List} if the underlying collection is one.
+     */
     public @NotNull Collection<E> getCollection() {
-        return this.collection;
+        if (this.view == null) {
+            if (this.collection instanceof List && this.collection instanceof RandomAccess) {
+                this.view = new RandomAccessView();
+            } else if (this.collection instanceof List) {
+                this.view = new ListView();
+            } else {
+                this.view = new CollectionView();
+            }
+        }
+        return this.view;
     }
 
     public @NotNull Collection<BiConsumer<Change, Collection<? extends E>>> getConsumers() {
-        return this.consumers;
+        return this.consumers == null ? List.of() : this.consumers;
     }
 
     @Override
@@ -104,7 +129,7 @@ public class BindableCollection<E> implements Collection<E> {
 
     @Override
     public @NotNull Iterator<E> iterator() {
-        return this.collection.iterator();
+        return new TrackingIterator(this.collection.iterator());
     }
 
     @Override
@@ -122,7 +147,10 @@ public class BindableCollection<E> implements Collection<E> {
     @Override
     public boolean add(@Nullable E e) {
         var res = this.collection.add(e);
-        this.consumers.forEach(consumer -> consumer.accept(Change.ADD, e == null ? null : List.of(e)));
+        this.modifications++;
+        if (this.consumers != null) {
+            this.publish(Change.ADD, e == null ? null : List.of(e));
+        }
         return res;
     }
 
@@ -130,12 +158,10 @@ public class BindableCollection<E> implements Collection<E> {
     @SuppressWarnings("unchecked")
     public boolean remove(@Nullable Object o) {
         var res = this.collection.remove(o);
-        if (this.collection.contains(o)) {
-            if (o == null) {
-                this.consumers.forEach(consumer -> consumer.accept(Change.REMOVE, null));
-            } else {
-                var elements = List.of((E) o);
-                this.consumers.forEach(consumer -> consumer.accept(Change.REMOVE, elements));
+        if (res) {
+            this.modifications++;
+            if (this.consumers != null) {
+                this.publish(Change.REMOVE, o == null ? null : List.of((E) o));
             }
         }
         return res;
@@ -149,32 +175,131 @@ public class BindableCollection<E> implements Collection<E> {
     @Override
     public boolean addAll(@NotNull Collection<? extends E> c) {
         var res = this.collection.addAll(c);
-        consumers.forEach(consumer -> consumer.accept(Change.ADD, c));
+        this.modifications++;
+        this.publish(Change.ADD, c);
         return res;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public boolean removeAll(@NotNull Collection<?> c) {
+        if (this.consumers == null) {
+            this.modifications++;
+            return this.collection.removeAll(c);
+        }
+        var elements = new ArrayList<>(this.collection);
+        elements.retainAll(c);
         var res = this.collection.removeAll(c);
-        consumers.forEach(consumer -> consumer.accept(Change.REMOVE, (Collection<E>) c));
+        this.modifications++;
+        this.publish(Change.REMOVE, elements);
         return res;
     }
 
     @Override
     public boolean retainAll(@NotNull Collection<?> c) {
+        if (this.consumers == null) {
+            this.modifications++;
+            return this.collection.retainAll(c);
+        }
         var elements = new ArrayList<>(this.collection);
         elements.removeAll(c);
         var res = this.collection.retainAll(c);
-        consumers.forEach(consumer -> consumer.accept(Change.REMOVE, elements));
+        this.modifications++;
+        this.publish(Change.REMOVE, elements);
         return res;
     }
 
     @Override
     public void clear() {
-        var elements = new ArrayList<>(this.collection);
+        var elements = this.consumers == null ? null : new ArrayList<>(this.collection);
         this.collection.clear();
-        consumers.forEach(consumer -> consumer.accept(Change.REMOVE, elements));
+        this.modifications++;
+        this.publish(Change.REMOVE, elements);
+    }
+
+    /**
+     * Replaces the content of this collection with the specified elements and
+     * notifies the consumers once with {@link Change#UPDATE} and the new content.
+     *
+     * @param c elements this collection should contain afterwards
+     */
+    public void setAll(@NotNull Collection<? extends E> c) {
+        if (c != this && c != this.collection && (this.view == null || c != this.view)) {
+            this.collection.clear();
+            this.collection.addAll(c);
+        }
+        this.modifications++;
+        var elements = Collections.unmodifiableCollection(this.collection);
+        this.publish(Change.UPDATE, elements);
+    }
+
+    /**
+     * Sorts a snapshot of this collection on the {@link ForkJoinPool#commonPool() common pool}
+     * and swaps the result in on the JavaFX application thread, in the
+     * {@link PriorityScheduler.Lane#BACKGROUND background lane}, with a single
+     * {@link Change#UPDATE} event.  A pending bulk operation is cancelled by a newer one,
+     * and the swap is cancelled if this collection was modified in the meantime.
+     *
+     * @param comparator the comparator that determines the new order
+     *
+     * @return a future completed with this collection after the swap
+     */
+    @NotNull
+    public CompletableFuture<BindableCollection<E>> sortAsync(@NotNull Comparator<? super E> comparator) {
+        return this.bulk(elements -> {
+            Arrays.parallelSort(elements, comparator);
+            return elements;
+        });
+    }
+
+    /**
+     * Filters a snapshot of this collection in parallel and swaps the result in the same
+     * way as {@link #sortAsync(Comparator)}.
+     *
+     * @param filter the predicate elements have to match to be retained
+     *
+     * @return a future completed with this collection after the swap
+     */
+    @NotNull
+    public CompletableFuture<BindableCollection<E>> filterAsync(@NotNull Predicate<? super E> filter) {
+        return this.bulk(elements -> Arrays.stream(elements).parallel().filter(filter)
+            .toArray(length -> Arrays.copyOf(elements, length)));
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<BindableCollection<E>> bulk(@NotNull UnaryOperator<E[]> operation) {
+        if (this.bulk != null) {
+            this.bulk.cancel(false);
+        }
+        var snapshot = (E[]) this.collection.toArray();
+        var modifications = this.modifications;
+        var future = new CompletableFuture<BindableCollection<E>>();
+        this.bulk = future;
+        ForkJoinPool.commonPool().execute(() -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                var elements = operation.apply(snapshot);
+                PriorityScheduler.post(PriorityScheduler.Lane.BACKGROUND, () -> {
+                    if (future.isDone()) {
+                        return;
+                    } else if (this.modifications != modifications) {
+                        future.cancel(false);
+                    } else {
+                        try {
+                            this.setAll(Arrays.asList(elements));
+                            future.complete(this);
+                        } catch (RuntimeException e) {
+                            future.completeExceptionally(e);
+                        }
+                    }
+                });
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
     }
 
     @NotNull
@@ -188,4 +313,103 @@ public class BindableCollection<E> implements Collection<E> {
         return "BindableCollection{collection=" + collection + '}';
     }
 
+    private void publish(@NotNull Change change, @Nullable Collection<? extends E> elements) {
+        if (this.consumers != null) {
+            this.consumers.forEach(consumer -> consumer.accept(change, elements));
+        }
+    }
+
+    private final class TrackingIterator implements Iterator<E> {
+
+        private final Iterator<E> iterator;
+
+        @Contract(pure = true)
+        private TrackingIterator(@NotNull Iterator<E> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.iterator.hasNext();
+        }
+
+        @Override
+        public E next() {
+            return this.iterator.next();
+        }
+
+        @Override
+        public void remove() {
+            this.iterator.remove();
+            modifications++;
+        }
+
+    }
+
+    private final class CollectionView extends AbstractCollection<E> {
+
+        @NotNull
+        @Override
+        public Iterator<E> iterator() {
+            return new TrackingIterator(collection.iterator());
+        }
+
+        @Override
+        public int size() {
+            return collection.size();
+        }
+
+        @Override
+        public boolean contains(@Nullable Object o) {
+            return collection.contains(o);
+        }
+
+        @Override
+        public boolean add(@Nullable E e) {
+            var res = collection.add(e);
+            modifications++;
+            return res;
+        }
+
+    }
+
+    private class ListView extends AbstractList<E> {
+
+        private final List<E> list = (List<E>) collection;
+
+        @Override
+        public E get(int index) {
+            return this.list.get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.list.size();
+        }
+
+        @Override
+        public E set(int index, @Nullable E element) {
+            var res = this.list.set(index, element);
+            modifications++;
+            return res;
+        }
+
+        @Override
+        public void add(int index, @Nullable E element) {
+            this.list.add(index, element);
+            modifications++;
+        }
+
+        @Override
+        public E remove(int index) {
+            var res = this.list.remove(index);
+            modifications++;
+            return res;
+        }
+
+    }
+
+    private final class RandomAccessView extends ListView implements RandomAccess {
+    }
+
 }
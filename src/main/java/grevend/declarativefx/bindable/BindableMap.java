@@ -24,24 +24,25 @@
 
 package grevend.declarativefx.bindable;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableMap;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
 
 public class BindableMap<K, V> implements Map<K, V> {
 
     private final Map<K, V> map;
     private final Collection<BiConsumer<Change, Collection<? extends Entry<? extends K, ? extends V>>>> consumers;
+    private ObservableMap<K, V> observableMap;
 
     @Contract(pure = true)
     private BindableMap(@NotNull Map<K, V> map) {
         this.map = map;
-        this.consumers = new ArrayList<>();
+        this.consumers = new CopyOnWriteArrayList<>();
     }
 
     @NotNull
@@ -201,9 +202,11 @@ public class BindableMap<K, V> implements Map<K, V> {
     @Nullable
     @Override
     public V put(@Nullable K key, @Nullable V value) {
+        var existed = this.map.containsKey(key);
         var res = this.map.put(key, value);
-        this.consumers
-            .forEach(consumer -> consumer.accept(Change.ADD, List.of(new AbstractMap.SimpleEntry<>(key, value))));
+        if (!existed || !Objects.equals(res, value)) {
+            this.publish(List.of(new Modification<>(existed ? Change.UPDATE : Change.ADD, key, value, res)));
+        }
         return res;
     }
 
@@ -243,11 +246,12 @@ public class BindableMap<K, V> implements Map<K, V> {
     @Override
     @SuppressWarnings("unchecked")
     public V remove(@Nullable Object key) {
-        var value = this.map.get(key);
+        if (!this.map.containsKey(key)) {
+            return null;
+        }
         var res = this.map.remove(key);
         //TODO Add check to ensure casting not resulting in a ClassCastException.
-        this.consumers.forEach(consumer -> consumer.accept(Change.REMOVE, List.of(new AbstractMap.SimpleEntry<K, V>(
-            (K) key, value))));
+        this.publish(List.of(new Modification<>(Change.REMOVE, (K) key, res, res)));
         return res;
     }
 
@@ -259,6 +263,10 @@ public class BindableMap<K, V> implements Map<K, V> {
      * specified map.  The behavior of this operation is undefined if the
      * specified map is modified while the operation is in progress.
      *
+     * <p>Mappings whose value is already present are skipped and all
+     * remaining changes are reported to the consumers as one event of
+     * {@link Modification} entries.
+     *
      * @param m mappings to be stored in this map
      *
      * @throws UnsupportedOperationException if the {@code putAll} operation
@@ -273,9 +281,54 @@ public class BindableMap<K, V> implements Map<K, V> {
      */
     @Override
     public void putAll(@NotNull Map<? extends K, ? extends V> m) {
-        var entries = new HashSet<>(m.entrySet());
-        this.map.putAll(m);
-        this.consumers.forEach(consumer -> consumer.accept(Change.ADD, entries));
+        List<Modification<K, V>> modifications = null;
+        for (Entry<? extends K, ? extends V> entry : m.entrySet()) {
+            var modification = this.apply(entry.getKey(), entry.getValue());
+            if (modification != null) {
+                if (modifications == null) {
+                    modifications = new ArrayList<>();
+                }
+                modifications.add(modification);
+            }
+        }
+        if (modifications != null) {
+            this.publish(modifications);
+        }
+    }
+
+    /**
+     * Replaces the content of this map with the mappings of the specified
+     * map.  Keys missing from the specified map are removed, new keys are
+     * added and existing keys are only updated if their value is not equal
+     * to the new one.  All differences are reported to the consumers as one
+     * event of {@link Modification} entries.
+     *
+     * @param m mappings this map should contain afterwards
+     */
+    public void assign(@NotNull Map<? extends K, ? extends V> m) {
+        List<Modification<K, V>> modifications = null;
+        for (var iterator = this.map.entrySet().iterator(); iterator.hasNext(); ) {
+            var entry = iterator.next();
+            if (!m.containsKey(entry.getKey())) {
+                iterator.remove();
+                if (modifications == null) {
+                    modifications = new ArrayList<>();
+                }
+                modifications.add(new Modification<>(Change.REMOVE, entry.getKey(), entry.getValue(), entry.getValue()));
+            }
+        }
+        for (Entry<? extends K, ? extends V> entry : m.entrySet()) {
+            var modification = this.apply(entry.getKey(), entry.getValue());
+            if (modification != null) {
+                if (modifications == null) {
+                    modifications = new ArrayList<>();
+                }
+                modifications.add(modification);
+            }
+        }
+        if (modifications != null) {
+            this.publish(modifications);
+        }
     }
 
     /**
@@ -287,9 +340,19 @@ public class BindableMap<K, V> implements Map<K, V> {
      */
     @Override
     public void clear() {
-        var entries = new HashSet<>(this.map.entrySet());
+        if (this.map.isEmpty()) {
+            return;
+        }
+        if (this.consumers.isEmpty()) {
+            this.map.clear();
+            return;
+        }
+        var modifications = new ArrayList<Modification<K, V>>(this.map.size());
+        for (Entry<K, V> entry : this.map.entrySet()) {
+            modifications.add(new Modification<>(Change.REMOVE, entry.getKey(), entry.getValue(), entry.getValue()));
+        }
         this.map.clear();
-        this.consumers.forEach(consumer -> consumer.accept(Change.REMOVE, entries));
+        this.publish(modifications);
     }
 
     /**
@@ -356,9 +419,20 @@ public class BindableMap<K, V> implements Map<K, V> {
         return this.map.entrySet();
     }
 
+    /**
+     * Returns a live {@link ObservableMap} view of this map.  Changes made through
+     * either this map or the view are reported to the consumers of this map as well
+     * as to the listeners of the view.  The view is created once and shares the
+     * mappings of this map.
+     *
+     * @return an observable view of this map
+     */
     @NotNull
     public ObservableMap<K, V> toObservableMap() {
-        return FXCollections.observableMap(this);
+        if (this.observableMap == null) {
+            this.observableMap = new ObservableBindableMap<>(this);
+        }
+        return this.observableMap;
     }
 
     @NotNull
@@ -367,4 +441,103 @@ public class BindableMap<K, V> implements Map<K, V> {
         return "BindableMap{map=" + map + '}';
     }
 
+    @Nullable
+    private Modification<K, V> apply(@Nullable K key, @Nullable V value) {
+        var existed = this.map.containsKey(key);
+        var res = this.map.put(key, value);
+        if (existed && Objects.equals(res, value)) {
+            return null;
+        }
+        return new Modification<>(existed ? Change.UPDATE : Change.ADD, key, value, res);
+    }
+
+    private void publish(@NotNull List<Modification<K, V>> modifications) {
+        if (this.consumers.isEmpty()) {
+            return;
+        }
+        var change = changeOf(modifications);
+        var entries = Collections.unmodifiableList(modifications);
+        this.consumers.forEach(consumer -> consumer.accept(change, entries));
+    }
+
+    @NotNull
+    static Change changeOf(@NotNull List<? extends Modification<?, ?>> modifications) {
+        var change = modifications.get(0).getChange();
+        for (Modification<?, ?> modification : modifications) {
+            if (modification.getChange() != change) {
+                return Change.UPDATE;
+            }
+        }
+        return change;
+    }
+
+    /**
+     * An immutable map entry describing a single change of a {@link BindableMap}.
+     * For {@link Change#REMOVE} modifications the value and the old value are
+     * both the value of the removed mapping.
+     *
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     */
+    public static final class Modification<K, V> implements Entry<K, V> {
+
+        private final Change change;
+        private final K key;
+        private final V value, oldValue;
+
+        @Contract(pure = true)
+        public Modification(@NotNull Change change, @Nullable K key, @Nullable V value, @Nullable V oldValue) {
+            this.change = change;
+            this.key = key;
+            this.value = value;
+            this.oldValue = oldValue;
+        }
+
+        @NotNull
+        public Change getChange() {
+            return change;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Nullable
+        public V getOldValue() {
+            return oldValue;
+        }
+
+        @Override
+        public V setValue(V value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @Contract(value = "null -> false", pure = true)
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Entry)) return false;
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            return Objects.equals(getKey(), entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @NotNull
+        @Override
+        public String toString() {
+            return "Modification{change=" + change + ", key=" + key + ", value=" + value + ", oldValue=" + oldValue + '}';
+        }
+
+    }
+
 }
@@ -39,6 +39,7 @@ public class BindableValue implements Bindable {
 
     private final List<Consumer<Object>> consumers;
     private Object value, defaultValue;
+    private int version;
 
     @Contract(pure = true)
     public BindableValue() {
@@ -75,6 +76,7 @@ public class BindableValue implements Bindable {
     @Override
     public void set(@Nullable Object value) {
         this.value = value;
+        this.version++;
         this.consumers.forEach(consumer -> consumer.accept(value));
     }
 
@@ -107,6 +109,15 @@ public class BindableValue implements Bindable {
         return this.orElse(supplier.get());
     }
 
+    /**
+     * @return a counter incremented on every {@link #set(Object)}, usable as a cheap input key.
+     *
+     * @since 0.7.8
+     */
+    public int getVersion() {
+        return this.version;
+    }
+
     @NotNull
     public List<Consumer<Object>> getConsumers() {
         return consumers;
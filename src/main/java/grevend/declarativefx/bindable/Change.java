@@ -25,5 +25,5 @@
 package grevend.declarativefx.bindable;
 
 public enum Change {
-    NONE, ADD, REMOVE;
+    NONE, ADD, UPDATE, REMOVE;
 }
@@ -0,0 +1,314 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.bindable;
+
+import grevend.declarativefx.bindable.BindableMap.Modification;
+import grevend.declarativefx.scheduler.PriorityScheduler;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A {@link BindableMap} counterpart that can be written by several threads at once.
+ * <p>
+ * Writes go straight into a {@link ConcurrentHashMap} and never wait for the consumers.
+ * Changes are coalesced per key until the next delivery, which runs on the JavaFX
+ * application thread in the background lane of the {@link PriorityScheduler} by default.
+ * At most one delivery is outstanding at any time, so a burst of writes results in a
+ * single event per JavaFX event loop turn that only contains the net change of every key.
+ * <p>
+ * Like {@link ConcurrentHashMap} this map does not permit {@code null} keys or values.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public class ConcurrentBindableMap<K, V> implements Map<K, V> {
+
+    private final ConcurrentHashMap<K, V> map;
+    private final ConcurrentHashMap<K, Modification<K, V>> pending;
+    private final Collection<BiConsumer<Change, Collection<? extends Entry<? extends K, ? extends V>>>> consumers;
+    private final AtomicBoolean scheduled;
+    private final Executor executor;
+
+    @Contract(pure = true)
+    private ConcurrentBindableMap(@NotNull Map<K, V> map, @NotNull Executor executor) {
+        this.map = new ConcurrentHashMap<>(map);
+        this.pending = new ConcurrentHashMap<>();
+        this.consumers = new CopyOnWriteArrayList<>();
+        this.scheduled = new AtomicBoolean(false);
+        this.executor = executor;
+    }
+
+    @NotNull
+    @Contract(" -> new")
+    public static <K, V> ConcurrentBindableMap<K, V> empty() {
+        return new ConcurrentBindableMap<>(Map.of(), PriorityScheduler.executor(PriorityScheduler.Lane.BACKGROUND));
+    }
+
+    @NotNull
+    @Contract("_ -> new")
+    public static <K, V> ConcurrentBindableMap<K, V> of(@NotNull Map<K, V> map) {
+        return new ConcurrentBindableMap<>(map, PriorityScheduler.executor(PriorityScheduler.Lane.BACKGROUND));
+    }
+
+    /**
+     * @param map      the initial mappings, which are copied
+     * @param executor the executor used to deliver coalesced changes to the consumers
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public static <K, V> ConcurrentBindableMap<K, V> of(@NotNull Map<K, V> map, @NotNull Executor executor) {
+        return new ConcurrentBindableMap<>(map, executor);
+    }
+
+    public void subscribe(@NotNull BiConsumer<Change, Collection<? extends Entry<? extends K, ? extends V>>> consumer) {
+        this.consumers.add(consumer);
+    }
+
+    public void unsubscribe(@NotNull BiConsumer<Change, Collection<? extends Entry<? extends K, ? extends V>>> consumer) {
+        this.consumers.remove(consumer);
+    }
+
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(@NotNull Object key) {
+        return this.map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(@NotNull Object value) {
+        return this.map.containsValue(value);
+    }
+
+    @Nullable
+    @Override
+    public V get(@NotNull Object key) {
+        return this.map.get(key);
+    }
+
+    @Nullable
+    @Override
+    public V put(@NotNull K key, @NotNull V value) {
+        Objects.requireNonNull(value);
+        return this.write(key, (k, old) -> value);
+    }
+
+    @Nullable
+    @Override
+    public V putIfAbsent(@NotNull K key, @NotNull V value) {
+        Objects.requireNonNull(value);
+        return this.write(key, (k, old) -> old == null ? value : old);
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(@NotNull Object key) {
+        return this.write((K) key, (k, old) -> null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(@NotNull Object key, @Nullable Object value) {
+        return value != null && value.equals(this.write((K) key, (k, old) -> value.equals(old) ? null : old));
+    }
+
+    @Nullable
+    @Override
+    public V replace(@NotNull K key, @NotNull V value) {
+        Objects.requireNonNull(value);
+        return this.write(key, (k, old) -> old == null ? null : value);
+    }
+
+    @Override
+    public boolean replace(@NotNull K key, @NotNull V oldValue, @NotNull V newValue) {
+        Objects.requireNonNull(newValue);
+        var res = this.write(key, (k, old) -> oldValue.equals(old) ? newValue : old);
+        return oldValue.equals(res);
+    }
+
+    @Nullable
+    @Override
+    public V computeIfAbsent(@NotNull K key, @NotNull Function<? super K, ? extends V> mappingFunction) {
+        return this.write(key, (k, old) -> old == null ? mappingFunction.apply(k) : old, null);
+    }
+
+    @Nullable
+    @Override
+    public V compute(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return this.write(key, remappingFunction, null);
+    }
+
+    @Nullable
+    @Override
+    public V merge(@NotNull K key, @NotNull V value, @NotNull BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value);
+        return this.write(key, (k, old) -> old == null ? value : remappingFunction.apply(old, value), null);
+    }
+
+    @Override
+    public void putAll(@NotNull Map<? extends K, ? extends V> m) {
+        m.forEach(this::put);
+    }
+
+    @Override
+    public void clear() {
+        for (K key : this.map.keySet()) {
+            this.remove(key);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the keys, all writes have to go through this map
+     * so that they are reported to the consumers.
+     */
+    @NotNull
+    @Override
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(this.map.keySet());
+    }
+
+    @NotNull
+    @Override
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(this.map.values());
+    }
+
+    @NotNull
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return Collections.unmodifiableSet(this.map.entrySet());
+    }
+
+    /**
+     * Delivers all pending changes to the consumers on the calling thread.
+     */
+    public void flush() {
+        this.scheduled.set(false);
+        if (this.pending.isEmpty()) {
+            return;
+        }
+        var modifications = new ArrayList<Modification<K, V>>(this.pending.size());
+        for (K key : this.pending.keySet()) {
+            var modification = this.pending.remove(key);
+            if (modification != null) {
+                modifications.add(modification);
+            }
+        }
+        if (!modifications.isEmpty() && !this.consumers.isEmpty()) {
+            var change = BindableMap.changeOf(modifications);
+            var entries = Collections.unmodifiableList(modifications);
+            this.consumers.forEach(consumer -> consumer.accept(change, entries));
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this.map.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.map.hashCode();
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return "ConcurrentBindableMap{map=" + map + '}';
+    }
+
+    @Nullable
+    private V write(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> function) {
+        Object[] previous = new Object[1];
+        this.write(key, function, previous);
+        @SuppressWarnings("unchecked")
+        var res = (V) previous[0];
+        return res;
+    }
+
+    /**
+     * @param previous receives the previous value at index 0 if not {@code null}.
+     *
+     * @return the value written by this call.
+     */
+    @Nullable
+    private V write(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> function, @Nullable Object[] previous) {
+        var res = this.map.compute(key, (k, old) -> {
+            if (previous != null) {
+                previous[0] = old;
+            }
+            var value = function.apply(k, old);
+            if (!Objects.equals(old, value)) {
+                var change = old == null ? Change.ADD : value == null ? Change.REMOVE : Change.UPDATE;
+                this.pending.merge(k, new Modification<>(change, k, value == null ? old : value, old),
+                    ConcurrentBindableMap::coalesce);
+            }
+            return value;
+        });
+        this.schedule();
+        return res;
+    }
+
+    private void schedule() {
+        if (!this.pending.isEmpty() && this.scheduled.compareAndSet(false, true)) {
+            this.executor.execute(this::flush);
+        }
+    }
+
+    @Nullable
+    private static <K, V> Modification<K, V> coalesce(@NotNull Modification<K, V> first, @NotNull Modification<K, V> last) {
+        var existedBefore = first.getChange() != Change.ADD;
+        var existsAfter = last.getChange() != Change.REMOVE;
+        var original = existedBefore ? first.getOldValue() : null;
+        if (!existedBefore) {
+            return existsAfter ? new Modification<>(Change.ADD, last.getKey(), last.getValue(), null) : null;
+        } else if (!existsAfter) {
+            return new Modification<>(Change.REMOVE, last.getKey(), original, original);
+        } else {
+            return Objects.equals(original, last.getValue()) ? null :
+                new Modification<>(Change.UPDATE, last.getKey(), last.getValue(), original);
+        }
+    }
+
+}
@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.bindable;
+
+import grevend.declarativefx.bindable.BindableMap.Modification;
+import javafx.beans.InvalidationListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * A live {@link ObservableMap} view of a {@link BindableMap}.
+ * <p>
+ * The view does not copy the map. Writes are forwarded to the {@link BindableMap} and every
+ * change published by it, no matter where it originated, is translated into
+ * {@link MapChangeListener.Change} events. The view only subscribes to the map while it has
+ * listeners. The collection views are read-only, writes have to go through the map methods.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+final class ObservableBindableMap<K, V> extends AbstractMap<K, V> implements ObservableMap<K, V> {
+
+    private final BindableMap<K, V> map;
+    private final List<MapChangeListener<? super K, ? super V>> changeListeners;
+    private final List<InvalidationListener> invalidationListeners;
+    private final BiConsumer<Change, Collection<? extends Entry<? extends K, ? extends V>>> consumer;
+    private boolean subscribed;
+
+    @Contract(pure = true)
+    ObservableBindableMap(@NotNull BindableMap<K, V> map) {
+        this.map = map;
+        this.changeListeners = new ArrayList<>(1);
+        this.invalidationListeners = new ArrayList<>(1);
+        this.consumer = this::fire;
+    }
+
+    @Override
+    public void addListener(@NotNull MapChangeListener<? super K, ? super V> listener) {
+        this.changeListeners.add(listener);
+        this.updateSubscription();
+    }
+
+    @Override
+    public void removeListener(@NotNull MapChangeListener<? super K, ? super V> listener) {
+        this.changeListeners.remove(listener);
+        this.updateSubscription();
+    }
+
+    @Override
+    public void addListener(@NotNull InvalidationListener listener) {
+        this.invalidationListeners.add(listener);
+        this.updateSubscription();
+    }
+
+    @Override
+    public void removeListener(@NotNull InvalidationListener listener) {
+        this.invalidationListeners.remove(listener);
+        this.updateSubscription();
+    }
+
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return this.map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(@Nullable Object value) {
+        return this.map.containsValue(value);
+    }
+
+    @Nullable
+    @Override
+    public V get(@Nullable Object key) {
+        return this.map.get(key);
+    }
+
+    @Nullable
+    @Override
+    public V put(@Nullable K key, @Nullable V value) {
+        return this.map.put(key, value);
+    }
+
+    @Nullable
+    @Override
+    public V remove(@Nullable Object key) {
+        return this.map.remove(key);
+    }
+
+    @Override
+    public void putAll(@NotNull Map<? extends K, ? extends V> m) {
+        this.map.putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        this.map.clear();
+    }
+
+    @NotNull
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return Collections.unmodifiableSet(this.map.entrySet());
+    }
+
+    private void updateSubscription() {
+        var listening = !this.changeListeners.isEmpty() || !this.invalidationListeners.isEmpty();
+        if (listening && !this.subscribed) {
+            this.map.subscribe(this.consumer);
+            this.subscribed = true;
+        } else if (!listening && this.subscribed) {
+            this.map.unsubscribe(this.consumer);
+            this.subscribed = false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fire(@NotNull Change change, @NotNull Collection<? extends Entry<? extends K, ? extends V>> entries) {
+        if (!this.changeListeners.isEmpty()) {
+            var listeners = new ArrayList<>(this.changeListeners);
+            for (Entry<? extends K, ? extends V> entry : entries) {
+                var mapChange = new MapChange(entry instanceof Modification ?
+                    (Modification<K, V>) entry : new Modification<>(change, entry.getKey(), entry.getValue(), null));
+                for (MapChangeListener<? super K, ? super V> listener : listeners) {
+                    listener.onChanged(mapChange);
+                }
+            }
+        }
+        if (!this.invalidationListeners.isEmpty()) {
+            for (InvalidationListener listener : this.invalidationListeners.toArray(new InvalidationListener[0])) {
+                listener.invalidated(this);
+            }
+        }
+    }
+
+    private final class MapChange extends MapChangeListener.Change<K, V> {
+
+        private final Modification<K, V> modification;
+
+        private MapChange(@NotNull Modification<K, V> modification) {
+            super(ObservableBindableMap.this);
+            this.modification = modification;
+        }
+
+        @Override
+        public boolean wasAdded() {
+            return this.modification.getChange() != Change.REMOVE;
+        }
+
+        @Override
+        public boolean wasRemoved() {
+            return this.modification.getChange() != Change.ADD;
+        }
+
+        @Override
+        public K getKey() {
+            return this.modification.getKey();
+        }
+
+        @Nullable
+        @Override
+        public V getValueAdded() {
+            return this.wasAdded() ? this.modification.getValue() : null;
+        }
+
+        @Nullable
+        @Override
+        public V getValueRemoved() {
+            return this.wasRemoved() ? this.modification.getOldValue() : null;
+        }
+
+        @NotNull
+        @Override
+        public String toString() {
+            return "MapChange{modification=" + modification + '}';
+        }
+
+    }
+
+}
@@ -0,0 +1,285 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.bindable;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A trigram index over the text of the elements of a {@link BindableCollection}.
+ * <p>
+ * The index follows the {@link Change#ADD}, {@link Change#REMOVE} and {@link Change#UPDATE}
+ * events of the source collection, so only changed elements are tokenized again. Substring
+ * queries of three or more characters are answered by intersecting the posting sets of the
+ * query trigrams and verifying the few remaining candidates, shorter queries fall back to a
+ * scan over the cached, already normalized texts. Matching is case-insensitive.
+ * <p>
+ * The matches of the current query are exposed as a live {@link BindableCollection} that
+ * can be used as the source of {@link grevend.declarativefx.component.Compat#builder}.
+ *
+ * @param <E> the type of the indexed elements
+ */
+public class SearchIndex<E> {
+
+    private final BindableCollection<E> source;
+    private final Function<E, String> text;
+    private final Map<E, Indexed> entries;
+    private final Map<Long, Set<E>> postings;
+    private final BindableCollection<E> results;
+    private final BiConsumer<Change, Collection<? extends E>> consumer;
+    private final Consumer<Object> queryConsumer;
+    private Bindable queryBindable;
+    private String query;
+    private long sequence;
+
+    @Contract(pure = true)
+    private SearchIndex(@NotNull BindableCollection<E> source, @NotNull Function<E, String> text) {
+        this.source = source;
+        this.text = text;
+        this.entries = new HashMap<>();
+        this.postings = new HashMap<>();
+        this.results = BindableCollection.empty();
+        this.consumer = this::update;
+        this.queryConsumer = value -> this.search(value == null ? "" : value.toString());
+        this.query = "";
+        this.source.forEach(this::index);
+        this.results.setAll(this.find(""));
+        this.source.subscribe(this.consumer);
+    }
+
+    /**
+     * @param source the collection whose elements should be indexed
+     * @param text   extracts the searchable text of an element
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public static <E> SearchIndex<E> of(@NotNull BindableCollection<E> source, @NotNull Function<E, String> text) {
+        return new SearchIndex<>(source, text);
+    }
+
+    @NotNull
+    public BindableCollection<E> getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the live collection of elements matching the current query, in the order in
+     * which they were added to the source collection.
+     */
+    @NotNull
+    public BindableCollection<E> getResults() {
+        return results;
+    }
+
+    @NotNull
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Updates the current query and replaces the results with a single event.
+     *
+     * @param query the substring to search for, an empty query matches every element
+     */
+    @NotNull
+    public SearchIndex<E> search(@NotNull String query) {
+        this.query = normalize(query);
+        this.results.setAll(this.find(this.query));
+        return this;
+    }
+
+    /**
+     * Runs {@link #search(String)} whenever the specified bindable changes, for example the
+     * value bound to the text property of a search field.
+     */
+    @NotNull
+    public SearchIndex<E> bind(@NotNull Bindable query) {
+        if (this.queryBindable != null) {
+            this.queryBindable.unsubscribe(this.queryConsumer);
+        }
+        this.queryBindable = query;
+        query.subscribe(this.queryConsumer);
+        return this;
+    }
+
+    /**
+     * Returns the elements matching the specified query without touching the live results.
+     */
+    @NotNull
+    public List<E> find(@NotNull String query) {
+        var normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            var all = new ArrayList<E>(this.entries.size());
+            this.entries.forEach((element, indexed) -> all.add(element));
+            return sorted(all);
+        } else if (normalized.length() < 3) {
+            var matches = new ArrayList<E>();
+            this.entries.forEach((element, indexed) -> {
+                if (indexed.text.contains(normalized)) {
+                    matches.add(element);
+                }
+            });
+            return sorted(matches);
+        }
+        Set<E> smallest = null;
+        for (int i = 0; i + 2 < normalized.length(); i++) {
+            var posting = this.postings.get(trigram(normalized, i));
+            if (posting == null) {
+                return List.of();
+            } else if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        var matches = new ArrayList<E>();
+        for (E element : Objects.requireNonNull(smallest)) {
+            if (this.entries.get(element).text.contains(normalized)) {
+                matches.add(element);
+            }
+        }
+        return sorted(matches);
+    }
+
+    /**
+     * Stops following the source collection and the bound query.
+     */
+    public void dispose() {
+        this.source.unsubscribe(this.consumer);
+        if (this.queryBindable != null) {
+            this.queryBindable.unsubscribe(this.queryConsumer);
+            this.queryBindable = null;
+        }
+    }
+
+    private void update(@NotNull Change change, @Nullable Collection<? extends E> elements) {
+        switch (change) {
+            case ADD:
+                if (elements != null) {
+                    for (E element : elements) {
+                        if (this.index(element) && this.matches(element)) {
+                            this.results.add(element);
+                        }
+                    }
+                }
+                break;
+            case REMOVE:
+                if (this.source.isEmpty()) {
+                    this.entries.clear();
+                    this.postings.clear();
+                    this.results.clear();
+                } else if (elements != null) {
+                    // Removals publish every removed occurrence, so duplicates decrement once each.
+                    for (E element : elements) {
+                        if (this.unindex(element)) {
+                            this.results.remove(element);
+                        }
+                    }
+                }
+                break;
+            case UPDATE:
+                this.entries.clear();
+                this.postings.clear();
+                this.source.forEach(this::index);
+                this.results.setAll(this.find(this.query));
+                break;
+            default:
+                break;
+        }
+    }
+
+    private boolean matches(@NotNull E element) {
+        return this.query.isEmpty() || this.entries.get(element).text.contains(this.query);
+    }
+
+    private boolean index(@Nullable E element) {
+        if (element == null) {
+            return false;
+        }
+        var indexed = this.entries.get(element);
+        if (indexed != null) {
+            indexed.count++;
+            return false;
+        }
+        var value = this.text.apply(element);
+        indexed = new Indexed(normalize(value == null ? "" : value), this.sequence++);
+        this.entries.put(element, indexed);
+        for (int i = 0; i + 2 < indexed.text.length(); i++) {
+            this.postings.computeIfAbsent(trigram(indexed.text, i), key -> new HashSet<>()).add(element);
+        }
+        return true;
+    }
+
+    private boolean unindex(@Nullable E element) {
+        var indexed = element == null ? null : this.entries.get(element);
+        if (indexed == null || --indexed.count > 0) {
+            return false;
+        }
+        this.entries.remove(element);
+        for (int i = 0; i + 2 < indexed.text.length(); i++) {
+            var key = trigram(indexed.text, i);
+            var posting = this.postings.get(key);
+            if (posting != null && posting.remove(element) && posting.isEmpty()) {
+                this.postings.remove(key);
+            }
+        }
+        return true;
+    }
+
+    @NotNull
+    private List<E> sorted(@NotNull List<E> elements) {
+        elements.sort(Comparator.comparingLong(element -> this.entries.get(element).sequence));
+        return elements;
+    }
+
+    @NotNull
+    private static String normalize(@NotNull String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static long trigram(@NotNull String text, int index) {
+        return ((long) text.charAt(index) << 32) | ((long) text.charAt(index + 1) << 16) | text.charAt(index + 2);
+    }
+
+    private static final class Indexed {
+
+        private final String text;
+        private final long sequence;
+        private int count;
+
+        @Contract(pure = true)
+        private Indexed(@NotNull String text, long sequence) {
+            this.text = text;
+            this.sequence = sequence;
+            this.count = 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.component;
+
+import grevend.declarativefx.decorator.ComponentDecorator;
+import javafx.scene.Node;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
+
+/**
+ * Supports building component trees off the JavaFX application thread.
+ * <p>
+ * Subscriptions made through {@code on}, {@code bind} and {@code compute} while a tree is
+ * {@link #build(Supplier) built} are recorded but not established, so the worker thread never
+ * touches bindables shared with the live scene. They are established in one pass once the tree
+ * is {@link #attach(Component) attached} on the application thread.
+ *
+ * @since 0.7.8
+ */
+public final class BackgroundBuild {
+
+    private static final ThreadLocal<Boolean> deferring = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    @Contract(pure = true)
+    private BackgroundBuild() {
+    }
+
+    static boolean isDeferring() {
+        return deferring.get();
+    }
+
+    /**
+     * Builds a component tree on the current thread, deferring all tracked subscriptions.
+     *
+     * @param supplier builds the component tree.
+     *
+     * @return the built component tree.
+     */
+    @NotNull
+    public static <C extends Component<? extends Node>> C build(@NotNull Supplier<C> supplier) {
+        if (deferring.get()) {
+            return supplier.get();
+        }
+        deferring.set(Boolean.TRUE);
+        try {
+            return supplier.get();
+        } finally {
+            deferring.remove();
+        }
+    }
+
+    /**
+     * Mounts a component tree returned by {@link #build(Supplier)} and establishes its deferred
+     * subscriptions. Must be called on the JavaFX application thread.
+     *
+     * @param component the root of the component tree.
+     */
+    public static void attach(@NotNull Component<? extends Node> component) {
+        component.mount();
+        establish(component);
+        ComponentIndex.attached(component);
+        EulerTourIndex.attached(component);
+    }
+
+    private static void establish(@NotNull Component<? extends Node> component) {
+        var target = component;
+        while (target instanceof ComponentDecorator) {
+            target = ((ComponentDecorator<? extends Node>) target).getTarget();
+        }
+        if (target instanceof ComponentBase) {
+            ((ComponentBase<? extends Node>) target).establish();
+        }
+        if (!component.isLeaf()) {
+            for (Component<? extends Node> child : component.getChildren()) {
+                if (child != component) {
+                    establish(child);
+                }
+            }
+        }
+    }
+
+}
@@ -37,11 +37,16 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static grevend.declarativefx.bindable.BindableCollection.of;
 
@@ -89,6 +94,9 @@ public class Compat {
                 for (E element : collection) {
                     components.add(build.apply(element));
                 }
+                if (build instanceof Memo) {
+                    ((Memo<E>) build).sweep();
+                }
                 components.removeIf(Objects::isNull);
                 component.getChildren().addAll(components);
             });
@@ -122,6 +130,68 @@ public class Compat {
         }
     }
 
+    @NotNull
+    public static <N extends Node, C extends Component<N>, E> C builder(@NotNull C component, @NotNull Collection<E> collection, @NotNull ComponentPool<E> pool) {
+        if (collection instanceof BindableCollection) {
+            ((BindableCollection<E>) collection).subscribe((change, changes) -> {
+                var discarded = new ArrayList<>(component.getChildren());
+                component.getChildren().clear();
+                discarded.forEach(pool::release);
+                var components = new ArrayList<Component<? extends Node>>(collection.size());
+                for (E element : collection) {
+                    components.add(pool.obtain(element));
+                }
+                component.getChildren().addAll(components);
+            });
+            ((BindableCollection<E>) collection).getConsumers()
+                .forEach(consumer -> consumer.accept(Change.NONE, List.of()));
+            return component;
+        } else {
+            return builder(component, of(collection), pool);
+        }
+    }
+
+    @NotNull
+    public static <N extends Node, C extends Component<N>, E> C parallelBuilder(@NotNull C component, @NotNull Collection<E> collection, @NotNull Function<E, Component<? extends Node>> build) {
+        return parallelBuilder(component, collection, build, ForkJoinPool.commonPool());
+    }
+
+    @NotNull
+    public static <N extends Node, C extends Component<N>, E> C parallelBuilder(@NotNull C component, @NotNull Collection<E> collection, @NotNull Function<E, Component<? extends Node>> build, @NotNull ForkJoinPool pool) {
+        if (collection instanceof BindableCollection) {
+            ((BindableCollection<E>) collection).subscribe((change, changes) -> {
+                var elements = new ArrayList<>(collection);
+                var built = new Component<?>[elements.size()];
+                pool.invoke(ForkJoinTask.adapt(() -> IntStream.range(0, built.length).parallel()
+                    .forEach(i -> built[i] = BackgroundBuild.build(() -> build.apply(elements.get(i))))));
+                var components = new ArrayList<Component<? extends Node>>(built.length);
+                for (Component<?> element : built) {
+                    if (element != null) {
+                        components.add(element);
+                    }
+                }
+                var retained = Collections.<Component<? extends Node>>newSetFromMap(new IdentityHashMap<>());
+                retained.addAll(components);
+                var discarded = new ArrayList<>(component.getChildren());
+                component.getChildren().setAll(components);
+                if (build instanceof Memo) {
+                    ((Memo<E>) build).sweep();
+                }
+                for (Component<? extends Node> child : discarded) {
+                    if (child != null && !retained.contains(child)) {
+                        child.dispose();
+                    }
+                }
+                components.forEach(BackgroundBuild::attach);
+            });
+            ((BindableCollection<E>) collection).getConsumers()
+                .forEach(consumer -> consumer.accept(Change.NONE, List.of()));
+            return component;
+        } else {
+            return parallelBuilder(component, of(collection), build, pool);
+        }
+    }
+
     @NotNull
     @Contract("_ -> new")
     public static <N extends Node, C extends Component<N>> MeasuredComponent<N> measure(@NotNull C component) {
@@ -27,7 +27,10 @@ package grevend.declarativefx.component;
 import grevend.declarativefx.bindable.Bindable;
 import grevend.declarativefx.bindable.BindableCollection;
 import grevend.declarativefx.bindable.BindableValue;
+import grevend.declarativefx.event.EventDelegate;
 import grevend.declarativefx.event.EventHandler;
+import grevend.declarativefx.iterator.ComponentSpliterator;
+import grevend.declarativefx.property.PropertyKey;
 import grevend.declarativefx.test.ComponentFixture;
 import grevend.declarativefx.util.Verbosity;
 import javafx.beans.InvalidationListener;
@@ -41,6 +44,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Spliterator;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -78,6 +82,22 @@ public interface Component<N extends Node> extends Iterable<Component<? extends
 
     @NotNull <E extends Event> Component<N> on(@NotNull EventType<E> type, @NotNull EventHandler<E> handler);
 
+    /**
+     * Handles events of {@code type} that originate from any child with a single handler on this
+     * component, which is invoked with the child the event originated from. Hover handlers for
+     * {@code MOUSE_ENTERED} and {@code MOUSE_EXITED} fire when a child is entered or exited, see
+     * {@link EventDelegate}.
+     *
+     * @since 0.7.8
+     */
+    @NotNull
+    default <E extends Event> Component<N> delegate(@NotNull EventType<E> type, @NotNull EventHandler<E> handler) {
+        var eventDelegate = new EventDelegate(this);
+        this.getChildren().subscribe((change, components) -> eventDelegate.invalidate());
+        this.getNode().addEventHandler(EventDelegate.bubbling(type), eventDelegate.wrap(handler));
+        return this;
+    }
+
     @NotNull <T> Component<N> on(@NotNull String property, @NotNull ChangeListener<T> listener);
 
     @NotNull
@@ -120,9 +140,86 @@ public interface Component<N extends Node> extends Iterable<Component<? extends
     @Nullable
     Object get(@NotNull String property);
 
+    @NotNull
+    default <T> Component<N> set(@NotNull PropertyKey<T> property, @Nullable T value) {
+        return this.set(property.getName(), value);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    default <T> T get(@NotNull PropertyKey<T> property) {
+        return (T) this.get(property.getName());
+    }
+
+    @NotNull
+    default <T> Component<N> bind(@NotNull PropertyKey<T> property, @NotNull Bindable value) {
+        return this.bind(property.getName(), value);
+    }
+
+    @NotNull
+    default <T> Component<N> on(@NotNull PropertyKey<T> property, @NotNull ChangeListener<? super T> listener) {
+        return this.on(property.getName(), listener);
+    }
+
+    @NotNull
+    default Component<N> on(@NotNull PropertyKey<?> property, @NotNull InvalidationListener listener) {
+        return this.on(property.getName(), listener);
+    }
+
     @NotNull
     Map<String, Bindable> getProperties();
 
+    /**
+     * @return the lifecycle state, components without a lifecycle of their own are always
+     * {@link Lifecycle#CREATED} and only forward lifecycle changes to their children.
+     *
+     * @since 0.7.8
+     */
+    @NotNull
+    default Lifecycle getLifecycle() {
+        return Lifecycle.CREATED;
+    }
+
+    /**
+     * @since 0.7.8
+     */
+    default void mount() {
+        if (!this.isLeaf()) {
+            for (Component<? extends Node> child : this.getChildren()) {
+                if (child != null && child != this && child.getLifecycle() != Lifecycle.MOUNTED &&
+                    child.getLifecycle() != Lifecycle.DISPOSED) {
+                    child.mount();
+                }
+            }
+        }
+    }
+
+    /**
+     * @since 0.7.8
+     */
+    default void unmount() {
+        if (!this.isLeaf()) {
+            for (Component<? extends Node> child : this.getChildren()) {
+                if (child != null && child != this) {
+                    child.unmount();
+                }
+            }
+        }
+    }
+
+    /**
+     * @since 0.7.8
+     */
+    default void dispose() {
+        if (!this.isLeaf()) {
+            for (Component<? extends Node> child : this.getChildren()) {
+                if (child != null && child != this) {
+                    child.dispose();
+                }
+            }
+        }
+    }
+
     @NotNull
     String stringify(@NotNull Verbosity verbosity);
 
@@ -134,6 +231,26 @@ public interface Component<N extends Node> extends Iterable<Component<? extends
         return false;
     }
 
+    default boolean isLeaf() {
+        return this.getChildren().isEmpty();
+    }
+
+    /**
+     * Unlike {@link #iterator()}, which traverses the descendants breadth-first, the spliterator
+     * traverses them in depth-first pre-order, so that it can split at subtree boundaries.
+     *
+     * @since 0.7.8
+     */
+    @NotNull
+    @Override
+    default Spliterator<Component<? extends Node>> spliterator() {
+        return new ComponentSpliterator(this);
+    }
+
+    /**
+     * @return a stream of the descendants in depth-first pre-order, see {@link #spliterator()}.
+     * Up to 0.7.7 the stream followed the breadth-first order of {@link #iterator()}.
+     */
     @NotNull
     default Stream<Component<? extends Node>> stream() {
         return StreamSupport.stream(this.spliterator(), false);
@@ -26,6 +26,9 @@ package grevend.declarativefx.component;
 
 import grevend.declarativefx.bindable.Bindable;
 import grevend.declarativefx.bindable.BindableCollection;
+import grevend.declarativefx.bindable.Change;
+import grevend.declarativefx.decorator.ComponentDecorator;
+import grevend.declarativefx.event.EventDelegate;
 import grevend.declarativefx.iterator.ComponentIterator;
 import grevend.declarativefx.util.Verbosity;
 import javafx.scene.Node;
@@ -40,29 +43,81 @@ import java.util.*;
 public abstract class ComponentBase<N extends Node> implements Component<N> {
 
     private final N node;
-    private final Map<String, Bindable> properties;
+    private Map<String, Bindable> properties;
     private int marker;
     private BindableCollection<Component<? extends Node>> children;
+    private Set<Component<? extends Node>> members;
+    private Lifecycle lifecycle;
+    private List<Subscription> subscriptions;
+    private EventDelegate eventDelegate;
 
     @Contract(pure = true)
     public ComponentBase(@NotNull N node) {
         this.node = node;
         this.marker = -1;
-        this.children = BindableCollection.empty();
-        this.children.subscribe((change, components) -> addNodes());
-        this.properties = new HashMap<>();
+        this.lifecycle = Lifecycle.CREATED;
     }
 
-    private void addNodes() {
+    private void onChildrenChanged(@NotNull Change change, @Nullable Collection<? extends Component<? extends Node>> components) {
+        if (change == Change.REMOVE) {
+            if (components != null) {
+                for (Component<? extends Node> component : components) {
+                    if (component != null && component != this && !this.children.contains(component)) {
+                        component.unmount();
+                        if (this.members != null) {
+                            this.members.remove(component);
+                        }
+                    }
+                }
+            }
+        } else {
+            if (change == Change.ADD && components != null && this.members != null) {
+                this.members.addAll(components);
+            } else {
+                var members = Collections.<Component<? extends Node>>newSetFromMap(new IdentityHashMap<>());
+                members.addAll(this.children);
+                if (this.members != null) {
+                    for (Component<? extends Node> component : this.members) {
+                        if (component != null && component != this && !members.contains(component)) {
+                            component.unmount();
+                        }
+                    }
+                }
+                this.members = members;
+            }
+            for (Component<? extends Node> component : change == Change.ADD && components != null ? components : this.children) {
+                if (component != null && component != this && component.getLifecycle() != Lifecycle.MOUNTED) {
+                    component.mount();
+                }
+            }
+        }
+        if (this.eventDelegate != null) {
+            this.eventDelegate.invalidate();
+        }
+        ComponentIndex.childrenChanged(this.node, change, components, this.children);
+        EulerTourIndex.childrenChanged(this.node, change, components, this.children.getCollection() instanceof List);
+        this.addNodes(change == Change.ADD ? components : null);
+    }
+
+    /**
+     * Synchronizes the children of a pane with the child components, appending only
+     * {@code added} if they were appended to a list of child components.
+     */
+    private void addNodes(@Nullable Collection<? extends Component<? extends Node>> added) {
         if (this.node instanceof Pane && !(this.node instanceof BorderPane)) {
             var pane = ((Pane) this.node);
-            pane.getChildren().clear();
-            for (Component<? extends Node> component : this.children) {
-                var child = component.getNode();
-                if (child != node) {
-                    pane.getChildren().add(child);
+            var append = added != null && this.children.getCollection() instanceof List;
+            var nodes = new ArrayList<Node>(append ? added.size() : this.children.size());
+            for (Component<? extends Node> component : append ? added : this.children) {
+                if (component != null && component.getNode() != node) {
+                    nodes.add(component.getNode());
                 }
             }
+            if (append) {
+                pane.getChildren().addAll(nodes);
+            } else {
+                pane.getChildren().setAll(nodes);
+            }
         }
     }
 
@@ -75,7 +130,11 @@ public abstract class ComponentBase<N extends Node> implements Component<N> {
     @NotNull
     @Override
     public BindableCollection<Component<? extends Node>> getChildren() {
-        return children;
+        if (this.children == null) {
+            this.children = BindableCollection.empty();
+            this.children.subscribe(this::onChildrenChanged);
+        }
+        return this.children;
     }
 
     @NotNull
@@ -83,36 +142,40 @@ public abstract class ComponentBase<N extends Node> implements Component<N> {
     public Component<N> setChildren(final @NotNull BindableCollection<Component<? extends Node>> children) {
         children.removeIf(Objects::isNull);
         this.children = children;
-        this.children.subscribe((change, components) -> addNodes());
-        addNodes();
+        this.children.subscribe(this::onChildrenChanged);
+        this.onChildrenChanged(Change.UPDATE, children);
         return this;
     }
 
     @NotNull
     @Override
     public Component<N> addChild(@NotNull Component<? extends Node> child) {
-        this.children.add(child);
+        this.getChildren().add(child);
         return this;
     }
 
     @NotNull
     @Override
     public Component<N> removeChild(@NotNull Component<? extends Node> child) {
-        this.children.remove(child);
+        if (this.children != null) {
+            this.children.remove(child);
+        }
         return this;
     }
 
     @NotNull
     @Override
     public Component<N> addChildren(@NotNull Collection<Component<? extends Node>> children) {
-        this.children.addAll(children);
+        this.getChildren().addAll(children);
         return this;
     }
 
     @NotNull
     @Override
     public Component<N> removeChildren(@NotNull Collection<Component<? extends Node>> children) {
-        this.children.removeAll(children);
+        if (this.children != null) {
+            this.children.removeAll(children);
+        }
         return this;
     }
 
@@ -136,7 +199,9 @@ public abstract class ComponentBase<N extends Node> implements Component<N> {
 
     @NotNull
     protected Component<N> setMarker(int marker) {
+        var oldMarker = this.marker;
         this.marker = marker;
+        ComponentIndex.markerChanged(this.node, oldMarker, marker);
         return this;
     }
 
@@ -145,20 +210,171 @@ public abstract class ComponentBase<N extends Node> implements Component<N> {
         return this.getMarker() != -1;
     }
 
+    @Override
+    public boolean isLeaf() {
+        return this.children == null || this.children.isEmpty();
+    }
+
+    @NotNull
+    @Override
+    public Lifecycle getLifecycle() {
+        return this.lifecycle;
+    }
+
+    @Override
+    public void mount() {
+        if (this.lifecycle == Lifecycle.DISPOSED) {
+            throw new IllegalStateException("Component has already been disposed.");
+        } else if (this.lifecycle != Lifecycle.MOUNTED) {
+            var resubscribe = this.lifecycle == Lifecycle.UNMOUNTED;
+            this.lifecycle = Lifecycle.MOUNTED;
+            if (resubscribe && this.subscriptions != null && !BackgroundBuild.isDeferring()) {
+                this.subscriptions.forEach(Subscription::subscribe);
+            }
+            if (this.children != null) {
+                for (Component<? extends Node> child : this.children) {
+                    if (child != this && child.getLifecycle() != Lifecycle.MOUNTED &&
+                        child.getLifecycle() != Lifecycle.DISPOSED) {
+                        child.mount();
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void unmount() {
+        if (this.lifecycle == Lifecycle.MOUNTED || this.lifecycle == Lifecycle.CREATED) {
+            this.lifecycle = Lifecycle.UNMOUNTED;
+            if (this.subscriptions != null) {
+                this.subscriptions.forEach(Subscription::unsubscribe);
+            }
+            if (this.children != null) {
+                for (Component<? extends Node> child : this.children) {
+                    if (child != this) {
+                        child.unmount();
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (this.lifecycle != Lifecycle.DISPOSED) {
+            this.unmount();
+            this.lifecycle = Lifecycle.DISPOSED;
+            this.subscriptions = null;
+            if (this.children != null) {
+                for (Component<? extends Node> child : this.children) {
+                    if (child != this) {
+                        child.dispose();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Establishes subscriptions deferred by a {@link BackgroundBuild}.
+     */
+    void establish() {
+        if (this.subscriptions != null && this.lifecycle != Lifecycle.UNMOUNTED &&
+            this.lifecycle != Lifecycle.DISPOSED) {
+            this.subscriptions.forEach(Subscription::subscribe);
+        }
+    }
+
+    /**
+     * Drops all tracked subscriptions and bound properties of this subtree and returns it to
+     * {@link Lifecycle#CREATED} so that a {@link ComponentPool} can hand it out again.
+     */
+    void recycle() {
+        this.unmount();
+        this.lifecycle = Lifecycle.CREATED;
+        this.subscriptions = null;
+        this.properties = null;
+        if (this.children != null) {
+            for (Component<? extends Node> child : this.children) {
+                var target = child;
+                while (target instanceof ComponentDecorator) {
+                    target = ((ComponentDecorator<? extends Node>) target).getTarget();
+                }
+                if (target != this && target instanceof ComponentBase) {
+                    ((ComponentBase<? extends Node>) target).recycle();
+                }
+            }
+        }
+    }
+
+    /**
+     * Records a subscription made on behalf of this component. It is established right away
+     * unless the component is unmounted, released on {@link #unmount()} and re-established on
+     * the next {@link #mount()}.
+     *
+     * @param subscribe   establishes the subscription.
+     * @param unsubscribe releases the subscription.
+     *
+     * @throws IllegalStateException if the component has already been disposed.
+     * @since 0.7.8
+     */
+    protected void track(@NotNull Runnable subscribe, @NotNull Runnable unsubscribe) {
+        if (this.lifecycle == Lifecycle.DISPOSED) {
+            throw new IllegalStateException("Component has already been disposed.");
+        }
+        if (this.subscriptions == null) {
+            this.subscriptions = new ArrayList<>(2);
+            SubscriptionTracker.register(this);
+        }
+        var subscription = new Subscription(subscribe, unsubscribe);
+        this.subscriptions.add(subscription);
+        if (this.lifecycle != Lifecycle.UNMOUNTED && !BackgroundBuild.isDeferring()) {
+            subscription.subscribe();
+        }
+    }
+
+    @NotNull
+    protected EventDelegate getEventDelegate() {
+        if (this.eventDelegate == null) {
+            this.eventDelegate = new EventDelegate(this);
+        }
+        return this.eventDelegate;
+    }
+
+    /**
+     * @return the number of tracked subscriptions that are currently established.
+     *
+     * @since 0.7.8
+     */
+    public int getActiveSubscriptions() {
+        var active = 0;
+        if (this.subscriptions != null) {
+            for (Subscription subscription : this.subscriptions) {
+                if (subscription.active) {
+                    active++;
+                }
+            }
+        }
+        return active;
+    }
+
     @NotNull
     @Override
     public Map<String, Bindable> getProperties() {
+        if (this.properties == null) {
+            this.properties = new HashMap<>(4);
+        }
         return this.properties;
     }
 
     @Nullable
     protected Bindable getProperty(@NotNull String property) {
-        return this.properties.get(property);
+        return this.properties == null ? null : this.properties.get(property);
     }
 
     @NotNull
     protected Component<N> setProperty(@NotNull String property, @NotNull Bindable value) {
-        this.properties.put(property, value);
+        this.getProperties().put(property, value);
         return this;
     }
 
@@ -180,4 +396,31 @@ public abstract class ComponentBase<N extends Node> implements Component<N> {
         return this.stringify(Verbosity.DETAILED);
     }
 
+    private static final class Subscription {
+
+        private final Runnable subscribe, unsubscribe;
+        private boolean active;
+
+        @Contract(pure = true)
+        private Subscription(@NotNull Runnable subscribe, @NotNull Runnable unsubscribe) {
+            this.subscribe = subscribe;
+            this.unsubscribe = unsubscribe;
+        }
+
+        private void subscribe() {
+            if (!this.active) {
+                this.subscribe.run();
+                this.active = true;
+            }
+        }
+
+        private void unsubscribe() {
+            if (this.active) {
+                this.unsubscribe.run();
+                this.active = false;
+            }
+        }
+
+    }
+
 }
@@ -0,0 +1,368 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.component;
+
+import grevend.declarativefx.bindable.Change;
+import grevend.declarativefx.property.PropertyKey;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lookup indexes by id, style class, node type and marker over the descendants of a root
+ * component.
+ * <p>
+ * The indexes are built once and then updated incrementally from changes of the child
+ * collections within the tree, from changes of the {@code id} property and the style classes
+ * of the indexed nodes and from marker changes, so that lookups cost O(1) or O(matches)
+ * instead of a traversal. Results are in insertion order rather than breadth-first order.
+ * Queries must be made on the JavaFX application thread, or on the only thread using the tree.
+ * Changes made on other threads cannot be applied safely, they mark all indexes stale instead,
+ * which are then rebuilt on their next query. Changes within a tree that is being built in the
+ * background are ignored, the tree is indexed once it is added to an indexed tree or
+ * {@link BackgroundBuild#attach(Component) attached}.
+ *
+ * @since 0.7.8
+ */
+public final class ComponentIndex {
+
+    private static final Set<ComponentIndex> indexes = Collections.newSetFromMap(new WeakHashMap<>());
+    private static final AtomicInteger epoch = new AtomicInteger();
+
+    private final Component<? extends Node> component;
+    private final Node root;
+    private final Map<Node, Component<? extends Node>> members;
+    private final Map<Node, Node> parents;
+    private final Map<ObservableList<String>, Node> styleClasses;
+    private final Map<String, Set<Component<? extends Node>>> ids, classes;
+    private final Map<Class<?>, Set<Component<? extends Node>>> types;
+    private final Map<Integer, Set<Component<? extends Node>>> markers;
+    private final Set<Component<? extends Node>> decorated;
+    private final ChangeListener<String> idListener;
+    private final ListChangeListener<String> classListener;
+    private int built;
+
+    @Contract(pure = true)
+    private ComponentIndex(@NotNull Component<? extends Node> root) {
+        this.component = root;
+        this.root = root.getNode();
+        this.members = new IdentityHashMap<>();
+        this.parents = new IdentityHashMap<>();
+        this.styleClasses = new IdentityHashMap<>();
+        this.ids = new HashMap<>();
+        this.classes = new HashMap<>();
+        this.types = new HashMap<>();
+        this.markers = new HashMap<>();
+        this.decorated = new LinkedHashSet<>();
+        this.idListener = (observable, oldId, newId) -> {
+            if (!isApplicable()) {
+                return;
+            }
+            var component = this.members.get((Node) ((ReadOnlyProperty<?>) observable).getBean());
+            if (component != null) {
+                remove(this.ids, oldId, component);
+                add(this.ids, newId, component);
+            }
+        };
+        this.classListener = change -> {
+            if (!isApplicable()) {
+                return;
+            }
+            var node = this.styleClasses.get(change.getList());
+            var component = node == null ? null : this.members.get(node);
+            if (component != null) {
+                while (change.next()) {
+                    change.getRemoved().forEach(clazz -> remove(this.classes, clazz, component));
+                    change.getAddedSubList().forEach(clazz -> add(this.classes, clazz, component));
+                }
+            }
+        };
+        this.built = epoch.get();
+        this.index(root, null);
+    }
+
+    /**
+     * @return the index of the descendants of {@code root}, which is created on first use and
+     * lives as long as the root node.
+     */
+    @NotNull
+    public static ComponentIndex of(@NotNull Component<? extends Node> root) {
+        var properties = root.getNode().getProperties();
+        var index = (ComponentIndex) properties.get(ComponentIndex.class);
+        if (index == null || index.members.get(root.getNode()) != root) {
+            if (index != null) {
+                indexes.remove(index);
+            }
+            index = new ComponentIndex(root);
+            properties.put(ComponentIndex.class, index);
+            indexes.add(index);
+        }
+        return index;
+    }
+
+    static void childrenChanged(@NotNull Node parent, @NotNull Change change, @Nullable Collection<? extends Component<? extends Node>> components, @NotNull Collection<Component<? extends Node>> children) {
+        if (isApplicable() && !indexes.isEmpty()) {
+            for (ComponentIndex index : indexes) {
+                if (index.members.containsKey(parent)) {
+                    index.update(parent, change, components, children);
+                }
+            }
+        }
+    }
+
+    static void markerChanged(@NotNull Node node, int oldMarker, int newMarker) {
+        if (isApplicable() && !indexes.isEmpty()) {
+            for (ComponentIndex index : indexes) {
+                var component = node == index.root ? null : index.members.get(node);
+                if (component != null) {
+                    remove(index.markers, oldMarker, component);
+                    add(index.markers, newMarker, component);
+                }
+            }
+        }
+    }
+
+    /**
+     * Indexes the subtree of {@code component} again in every index containing it, after it was
+     * built in the background.
+     */
+    static void attached(@NotNull Component<? extends Node> component) {
+        var node = component.getNode();
+        if (!indexes.isEmpty() && !component.isLeaf()) {
+            for (ComponentIndex index : indexes) {
+                if (index.members.containsKey(node)) {
+                    index.update(node, Change.UPDATE, null, component.getChildren());
+                }
+            }
+        }
+    }
+
+    /**
+     * @return whether a change on the current thread can be applied to the indexes. Changes on
+     * other threads than the application thread mark all indexes stale instead, changes within
+     * trees built in the background are ignored.
+     */
+    private static boolean isApplicable() {
+        if (BackgroundBuild.isDeferring()) {
+            return false;
+        } else if (!Platform.isFxApplicationThread()) {
+            epoch.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private static <K> void add(@NotNull Map<K, Set<Component<? extends Node>>> map, @Nullable K key, @NotNull Component<? extends Node> component) {
+        if (key != null && !(key instanceof Integer && (Integer) key == -1)) {
+            map.computeIfAbsent(key, k -> new LinkedHashSet<>(2)).add(component);
+        }
+    }
+
+    private static <K> void remove(@NotNull Map<K, Set<Component<? extends Node>>> map, @Nullable K key, @NotNull Component<? extends Node> component) {
+        if (key != null) {
+            var components = map.get(key);
+            if (components != null && components.remove(component) && components.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    private void update(@NotNull Node parent, @NotNull Change change, @Nullable Collection<? extends Component<? extends Node>> components, @NotNull Collection<Component<? extends Node>> children) {
+        if (change == Change.ADD && components != null) {
+            for (Component<? extends Node> component : components) {
+                if (component != null && component.getNode() != parent) {
+                    this.index(component, parent);
+                }
+            }
+        } else if (change == Change.REMOVE && components != null) {
+            for (Component<? extends Node> component : components) {
+                if (component != null && this.parents.get(component.getNode()) == parent &&
+                    !children.contains(component)) {
+                    this.unindex(component.getNode());
+                }
+            }
+        } else {
+            var previous = new ArrayList<Node>();
+            this.parents.forEach((node, nodeParent) -> {
+                if (nodeParent == parent) {
+                    previous.add(node);
+                }
+            });
+            previous.forEach(this::unindex);
+            for (Component<? extends Node> component : children) {
+                if (component != null && component.getNode() != parent) {
+                    this.index(component, parent);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds all indexes if changes were made off the application thread since they were built.
+     */
+    private void validate() {
+        var current = epoch.get();
+        if (this.built == current) {
+            return;
+        }
+        this.members.keySet().forEach(node -> {
+            if (node != this.root) {
+                node.idProperty().removeListener(this.idListener);
+                node.getStyleClass().removeListener(this.classListener);
+            }
+        });
+        this.members.clear();
+        this.parents.clear();
+        this.styleClasses.clear();
+        this.ids.clear();
+        this.classes.clear();
+        this.types.clear();
+        this.markers.clear();
+        this.decorated.clear();
+        this.built = current;
+        this.index(this.component, null);
+    }
+
+    private void index(@NotNull Component<? extends Node> component, @Nullable Node parent) {
+        var node = component.getNode();
+        if (this.members.putIfAbsent(node, component) != null) {
+            this.parents.put(node, parent);
+            return;
+        }
+        this.parents.put(node, parent);
+        if (parent != null) {
+            add(this.ids, node.getId(), component);
+            for (String clazz : node.getStyleClass()) {
+                add(this.classes, clazz, component);
+            }
+            add(this.types, node.getClass(), component);
+            add(this.markers, component.get(PropertyKey.MARKER), component);
+            if (component.isDecorated()) {
+                this.decorated.add(component);
+            }
+            node.idProperty().addListener(this.idListener);
+            node.getStyleClass().addListener(this.classListener);
+            this.styleClasses.put(node.getStyleClass(), node);
+        }
+        if (!component.isLeaf()) {
+            for (Component<? extends Node> child : component.getChildren()) {
+                if (child != null && child != component) {
+                    this.index(child, node);
+                }
+            }
+        }
+    }
+
+    private void unindex(@NotNull Node node) {
+        var component = this.members.remove(node);
+        if (component == null) {
+            return;
+        }
+        this.parents.remove(node);
+        remove(this.ids, node.getId(), component);
+        for (String clazz : node.getStyleClass()) {
+            remove(this.classes, clazz, component);
+        }
+        remove(this.types, node.getClass(), component);
+        remove(this.markers, component.get(PropertyKey.MARKER), component);
+        this.decorated.remove(component);
+        node.idProperty().removeListener(this.idListener);
+        node.getStyleClass().removeListener(this.classListener);
+        this.styleClasses.remove(node.getStyleClass());
+        if (!component.isLeaf()) {
+            for (Component<? extends Node> child : component.getChildren()) {
+                if (child != null && this.parents.get(child.getNode()) == node) {
+                    this.unindex(child.getNode());
+                }
+            }
+        }
+    }
+
+    @Nullable
+    public Component<? extends Node> findById(@NotNull String id) {
+        this.validate();
+        var components = this.ids.get(id);
+        return components == null ? null : components.iterator().next();
+    }
+
+    @NotNull
+    public Collection<Component<? extends Node>> findByClass(@NotNull String clazz) {
+        this.validate();
+        var components = this.classes.get(clazz);
+        return components == null ? new ArrayList<>() : new ArrayList<>(components);
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <N extends Node> Collection<Component<N>> findByNode(@NotNull Class<N> clazz) {
+        this.validate();
+        var components = new ArrayList<Component<N>>();
+        this.types.forEach((type, typed) -> {
+            if (clazz.isAssignableFrom(type)) {
+                typed.forEach(component -> components.add((Component<N>) component));
+            }
+        });
+        return components;
+    }
+
+    @Nullable
+    public Component<? extends Node> findByMarker(int marker) {
+        this.validate();
+        var components = this.markers.get(marker);
+        return components == null ? null : components.iterator().next();
+    }
+
+    @NotNull
+    public Collection<Component<? extends Node>> findMarked() {
+        this.validate();
+        var components = new ArrayList<Component<? extends Node>>();
+        this.markers.values().forEach(components::addAll);
+        return components;
+    }
+
+    @NotNull
+    public Collection<Component<? extends Node>> findDecorated() {
+        this.validate();
+        return new ArrayList<>(this.decorated);
+    }
+
+    /**
+     * @return the number of indexed descendants.
+     */
+    public int size() {
+        this.validate();
+        return this.members.size() - 1;
+    }
+
+}
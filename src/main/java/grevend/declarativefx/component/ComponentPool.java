@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.component;
+
+import grevend.declarativefx.decorator.ComponentDecorator;
+import javafx.scene.Node;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Keeps components discarded by a builder so that the next build can reuse them together with
+ * their nodes instead of constructing new ones.
+ * <p>
+ * Released components are unmounted and reset: their tracked subscriptions and bound
+ * properties are dropped for the whole subtree. A reused component is handed to the rebind
+ * hook with its new element, which is expected to re-establish the element specific state.
+ *
+ * @param <E> the type of the elements components are built for.
+ *
+ * @since 0.7.8
+ */
+public final class ComponentPool<E> {
+
+    private static final Object KEY = new Object();
+
+    private final Function<E, ?> type;
+    private final Function<E, Component<? extends Node>> create;
+    private final BiConsumer<Component<? extends Node>, E> rebind;
+    private final Map<Object, ArrayDeque<Component<? extends Node>>> pool;
+    private int capacity;
+
+    @Contract(pure = true)
+    private ComponentPool(@NotNull Function<E, ?> type, @NotNull Function<E, Component<? extends Node>> create, @NotNull BiConsumer<Component<? extends Node>, E> rebind) {
+        this.type = type;
+        this.create = create;
+        this.rebind = rebind;
+        this.pool = new HashMap<>(4);
+        this.capacity = 256;
+    }
+
+    /**
+     * @param create builds a new component for an element.
+     * @param rebind updates a reused component to display an element.
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public static <E> ComponentPool<E> of(@NotNull Function<E, Component<? extends Node>> create, @NotNull BiConsumer<Component<? extends Node>, E> rebind) {
+        return new ComponentPool<>(element -> KEY, create, rebind);
+    }
+
+    /**
+     * @param type   the key of the pool an element is served from, components are only reused for
+     *               elements of the same type.
+     * @param create builds a new component for an element.
+     * @param rebind updates a reused component to display an element.
+     */
+    @NotNull
+    @Contract("_, _, _ -> new")
+    public static <E> ComponentPool<E> of(@NotNull Function<E, ?> type, @NotNull Function<E, Component<? extends Node>> create, @NotNull BiConsumer<Component<? extends Node>, E> rebind) {
+        return new ComponentPool<>(type, create, rebind);
+    }
+
+    /**
+     * @return a reused component rebound to {@code element} or a new one if none is available.
+     */
+    @NotNull
+    public Component<? extends Node> obtain(@NotNull E element) {
+        var key = this.type.apply(element);
+        var components = this.pool.get(key);
+        var component = components == null ? null : components.pollLast();
+        if (component == null) {
+            component = this.create.apply(element);
+            component.getNode().getProperties().put(ComponentPool.class, key);
+        } else {
+            this.rebind.accept(component, element);
+        }
+        return component;
+    }
+
+    /**
+     * Resets {@code component} and keeps it for reuse, components not obtained from this pool
+     * or exceeding the capacity are disposed.
+     */
+    public void release(@NotNull Component<? extends Node> component) {
+        var key = component.getNode().getProperties().get(ComponentPool.class);
+        var target = component;
+        while (target instanceof ComponentDecorator) {
+            target = ((ComponentDecorator<? extends Node>) target).getTarget();
+        }
+        var components = key == null ? null : this.pool.computeIfAbsent(key, k -> new ArrayDeque<>());
+        if (components == null || components.size() >= this.capacity || !(target instanceof ComponentBase) ||
+            component.getLifecycle() == Lifecycle.DISPOSED) {
+            component.dispose();
+        } else {
+            ((ComponentBase<? extends Node>) target).recycle();
+            components.addLast(component);
+        }
+    }
+
+    /**
+     * @return the number of components currently kept for reuse.
+     */
+    public int size() {
+        var size = 0;
+        for (ArrayDeque<Component<? extends Node>> components : this.pool.values()) {
+            size += components.size();
+        }
+        return size;
+    }
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * @param capacity the maximum number of components kept per type.
+     */
+    public void setCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative.");
+        }
+        this.capacity = capacity;
+    }
+
+    public void clear() {
+        for (ArrayDeque<Component<? extends Node>> components : this.pool.values()) {
+            components.forEach(Component::dispose);
+        }
+        this.pool.clear();
+    }
+
+}
@@ -24,6 +24,7 @@
 
 package grevend.declarativefx.component;
 
+import grevend.declarativefx.property.PropertyKey;
 import javafx.collections.FXCollections;
 import javafx.scene.control.*;
 import javafx.scene.image.Image;
@@ -41,17 +42,17 @@ public class Controls {
 
     @NotNull
     public static Component<TextField> TextField(@NotNull String placeholder) {
-        return FX(new TextField()).set("prompttext", placeholder);
+        return FX(new TextField()).set(PropertyKey.PROMPT_TEXT, placeholder);
     }
 
     @NotNull
     public static Component<PasswordField> PasswordField(@NotNull String placeholder) {
-        return FX(new PasswordField()).set("prompttext", placeholder);
+        return FX(new PasswordField()).set(PropertyKey.PROMPT_TEXT, placeholder);
     }
 
     @NotNull
     public static Component<TextArea> TextArea(@NotNull String placeholder) {
-        return FX(new TextArea()).set("prompttext", placeholder);
+        return FX(new TextArea()).set(PropertyKey.PROMPT_TEXT, placeholder);
     }
 
     @NotNull
@@ -61,7 +62,7 @@ public class Controls {
 
     @NotNull
     public static <T> Component<ChoiceBox<T>> ChoiceBox(@NotNull Collection<T> items, @NotNull T value) {
-        return FX(new ChoiceBox<>(FXCollections.observableArrayList(items))).set("value", value);
+        return FX(new ChoiceBox<>(FXCollections.observableArrayList(items))).set(PropertyKey.VALUE, value);
     }
 
     @NotNull
@@ -0,0 +1,398 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.component;
+
+import grevend.declarativefx.bindable.Change;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A flattened pre-order tour of a component tree.
+ * <p>
+ * Every component is assigned the position at which the tour enters it and the position right
+ * after its last descendant, at which the tour exits it. Ancestor checks are therefore two
+ * comparisons and a subtree is the contiguous range {@code [enter, exit)} of the tour.
+ * <p>
+ * The tour is updated incrementally from changes of the child collections within the tree.
+ * Components appended to a list of children are toured and inserted at the exit of their
+ * parent, removed components have their ranges cut out, and only other changes tour the whole
+ * subtree of the parent again. Each update also shifts the positions after the changed range,
+ * which costs O(n) per splice. If a component is moved into the tree before it has been removed
+ * from its previous position or occurs twice, the tour is rebuilt on the next query instead.
+ * Changes made off the JavaFX application thread cannot be spliced safely and mark every tour
+ * stale, so that it is rebuilt on the next query as well.
+ *
+ * @since 0.7.8
+ */
+public final class EulerTourIndex {
+
+    private static final Set<EulerTourIndex> indexes = Collections.newSetFromMap(new WeakHashMap<>());
+    private static final AtomicInteger epoch = new AtomicInteger();
+
+    private final Component<? extends Node> root;
+    private final Map<Node, Entry> entries;
+    private Entry[] tour;
+    private int size, built;
+    private boolean dirty, duplicates;
+
+    @Contract(pure = true)
+    private EulerTourIndex(@NotNull Component<? extends Node> root) {
+        this.root = root;
+        this.entries = new IdentityHashMap<>();
+        this.tour = new Entry[16];
+        this.rebuild();
+    }
+
+    /**
+     * @return the tour of {@code root} and its descendants, which is created on first use and
+     * lives as long as the root node.
+     */
+    @NotNull
+    public static EulerTourIndex of(@NotNull Component<? extends Node> root) {
+        var properties = root.getNode().getProperties();
+        var index = (EulerTourIndex) properties.get(EulerTourIndex.class);
+        if (index == null || index.root != root) {
+            if (index != null) {
+                indexes.remove(index);
+            }
+            index = new EulerTourIndex(root);
+            properties.put(EulerTourIndex.class, index);
+            indexes.add(index);
+        }
+        return index;
+    }
+
+    /**
+     * @param ordered whether the children keep their insertion order, so that added components
+     *                follow all existing ones.
+     */
+    static void childrenChanged(@NotNull Node parent, @NotNull Change change, @Nullable Collection<? extends Component<? extends Node>> components, boolean ordered) {
+        if (isApplicable() && !indexes.isEmpty()) {
+            for (EulerTourIndex index : indexes) {
+                var entry = index.isStale() ? null : index.entries.get(parent);
+                if (entry == null) {
+                    continue;
+                }
+                if (change == Change.ADD && components != null && ordered) {
+                    index.insert(entry, components);
+                } else if (change == Change.REMOVE && components != null) {
+                    index.cut(entry, components);
+                } else if (change != Change.ADD || components != null) {
+                    index.splice(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tours the subtree of {@code component} again in every index containing it, after it was
+     * built in the background.
+     */
+    static void attached(@NotNull Component<? extends Node> component) {
+        if (!indexes.isEmpty()) {
+            for (EulerTourIndex index : indexes) {
+                var entry = index.isStale() ? null : index.entries.get(component.getNode());
+                if (entry != null) {
+                    index.splice(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return whether a change can be spliced into the tours, otherwise they are marked stale if
+     * the change was made off the JavaFX application thread.
+     */
+    private static boolean isApplicable() {
+        if (BackgroundBuild.isDeferring()) {
+            return false;
+        } else if (!Platform.isFxApplicationThread()) {
+            epoch.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isStale() {
+        return this.dirty || this.built != epoch.get();
+    }
+
+    private void rebuild() {
+        this.built = epoch.get();
+        this.entries.clear();
+        Arrays.fill(this.tour, 0, this.size, null);
+        this.size = 0;
+        var visited = new ArrayList<Entry>();
+        this.duplicates = !this.visit(this.root, null, 0, visited);
+        this.ensureCapacity(visited.size());
+        visited.toArray(this.tour);
+        this.size = visited.size();
+        this.dirty = false;
+    }
+
+    private boolean visit(@NotNull Component<? extends Node> component, @Nullable Entry parent, int offset, @NotNull List<Entry> visited) {
+        var entry = new Entry(component, parent, offset + visited.size());
+        if (this.entries.putIfAbsent(component.getNode(), entry) != null) {
+            return false;
+        }
+        visited.add(entry);
+        var consistent = true;
+        if (!component.isLeaf()) {
+            for (Component<? extends Node> child : component.getChildren()) {
+                if (child != null && child != component) {
+                    consistent &= this.visit(child, entry, offset, visited);
+                }
+            }
+        }
+        entry.exit = offset + visited.size();
+        return consistent;
+    }
+
+    /**
+     * Tours the appended {@code components} and inserts them right before the exit of
+     * {@code parent}.
+     */
+    private void insert(@NotNull Entry parent, @NotNull Collection<? extends Component<? extends Node>> components) {
+        var visited = new ArrayList<Entry>();
+        for (Component<? extends Node> component : components) {
+            if (component != null && component != parent.component &&
+                !this.visit(component, parent, parent.exit, visited)) {
+                this.dirty = true;
+                return;
+            }
+        }
+        this.replace(parent, parent.exit, parent.exit, visited);
+    }
+
+    /**
+     * Cuts the ranges of the removed children of {@code parent} out of the tour in a single pass.
+     */
+    private void cut(@NotNull Entry parent, @NotNull Collection<? extends Component<? extends Node>> components) {
+        if (this.duplicates) {
+            this.dirty = true;
+            return;
+        }
+        var removed = new ArrayList<Entry>(components.size());
+        for (Component<? extends Node> component : components) {
+            var entry = component == null ? null : this.entries.get(component.getNode());
+            if (entry != null && entry.parent == parent && entry.component == component) {
+                removed.add(entry);
+            }
+        }
+        if (removed.isEmpty()) {
+            return;
+        }
+        removed.sort(Comparator.comparingInt(entry -> entry.enter));
+        var write = removed.get(0).enter;
+        var shift = 0;
+        var next = 0;
+        for (var read = write; read < this.size; ) {
+            var entry = this.tour[read];
+            if (next < removed.size() && removed.get(next) == entry) {
+                for (var i = entry.enter; i < entry.exit; i++) {
+                    this.entries.remove(this.tour[i].component.getNode(), this.tour[i]);
+                }
+                shift += entry.exit - entry.enter;
+                read = entry.exit;
+                next++;
+            } else {
+                entry.enter -= shift;
+                entry.exit -= shift;
+                this.tour[write++] = entry;
+                read++;
+            }
+        }
+        Arrays.fill(this.tour, write, this.size, null);
+        this.size = write;
+        for (var ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+            ancestor.exit -= shift;
+        }
+    }
+
+    /**
+     * Tours all children of {@code parent} again.
+     */
+    private void splice(@NotNull Entry parent) {
+        var start = parent.enter + 1;
+        var end = parent.exit;
+        for (var i = start; i < end; i++) {
+            this.entries.remove(this.tour[i].component.getNode(), this.tour[i]);
+        }
+        var visited = new ArrayList<Entry>();
+        var component = parent.component;
+        if (!component.isLeaf()) {
+            for (Component<? extends Node> child : component.getChildren()) {
+                if (child != null && child != component && !this.visit(child, parent, start, visited)) {
+                    this.dirty = true;
+                    return;
+                }
+            }
+        }
+        this.replace(parent, start, end, visited);
+    }
+
+    /**
+     * Replaces the range {@code [start, end)} within the subtree of {@code parent} with
+     * {@code visited} and shifts the following positions.
+     */
+    private void replace(@NotNull Entry parent, int start, int end, @NotNull List<Entry> visited) {
+        var delta = visited.size() - (end - start);
+        this.ensureCapacity(this.size + delta);
+        System.arraycopy(this.tour, end, this.tour, end + delta, this.size - end);
+        for (var i = 0; i < visited.size(); i++) {
+            this.tour[start + i] = visited.get(i);
+        }
+        if (delta < 0) {
+            Arrays.fill(this.tour, this.size + delta, this.size, null);
+        }
+        this.size += delta;
+        if (delta != 0) {
+            for (var i = end + delta; i < this.size; i++) {
+                this.tour[i].enter += delta;
+                this.tour[i].exit += delta;
+            }
+            for (var ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+                ancestor.exit += delta;
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > this.tour.length) {
+            this.tour = Arrays.copyOf(this.tour, Math.max(capacity, this.tour.length * 2));
+        }
+    }
+
+    @Nullable
+    private Entry entry(@NotNull Component<? extends Node> component) {
+        if (this.isStale()) {
+            this.rebuild();
+        }
+        var entry = this.entries.get(component.getNode());
+        return entry == null || entry.component != component ? null : entry;
+    }
+
+    /**
+     * @return the position at which the tour enters {@code component}, or {@code -1} if it is not
+     * part of the tree.
+     */
+    public int getEnter(@NotNull Component<? extends Node> component) {
+        var entry = this.entry(component);
+        return entry == null ? -1 : entry.enter;
+    }
+
+    /**
+     * @return the position right after the last descendant of {@code component}, or {@code -1} if
+     * it is not part of the tree.
+     */
+    public int getExit(@NotNull Component<? extends Node> component) {
+        var entry = this.entry(component);
+        return entry == null ? -1 : entry.exit;
+    }
+
+    public boolean contains(@NotNull Component<? extends Node> component) {
+        return this.entry(component) != null;
+    }
+
+    /**
+     * @return whether {@code descendant} lies strictly within the subtree of {@code ancestor}.
+     */
+    public boolean isAncestor(@NotNull Component<? extends Node> ancestor, @NotNull Component<? extends Node> descendant) {
+        var outer = this.entry(ancestor);
+        var inner = this.entry(descendant);
+        return outer != null && inner != null && outer.enter < inner.enter && inner.enter < outer.exit;
+    }
+
+    /**
+     * @return the component at {@code position} of the tour.
+     */
+    @NotNull
+    public Component<? extends Node> get(int position) {
+        if (this.isStale()) {
+            this.rebuild();
+        }
+        Objects.checkIndex(position, this.size);
+        return this.tour[position].component;
+    }
+
+    /**
+     * @return {@code component} followed by its descendants in pre-order.
+     */
+    @NotNull
+    public List<Component<? extends Node>> subtree(@NotNull Component<? extends Node> component) {
+        var entry = this.entry(component);
+        return entry == null ? new ArrayList<>() : this.range(entry.enter, entry.exit);
+    }
+
+    /**
+     * @return the descendants of {@code component} in pre-order.
+     */
+    @NotNull
+    public List<Component<? extends Node>> descendants(@NotNull Component<? extends Node> component) {
+        var entry = this.entry(component);
+        return entry == null ? new ArrayList<>() : this.range(entry.enter + 1, entry.exit);
+    }
+
+    @NotNull
+    private List<Component<? extends Node>> range(int from, int to) {
+        var components = new ArrayList<Component<? extends Node>>(to - from);
+        for (var i = from; i < to; i++) {
+            components.add(this.tour[i].component);
+        }
+        return components;
+    }
+
+    /**
+     * @return the number of components in the tour, including the root.
+     */
+    public int size() {
+        if (this.isStale()) {
+            this.rebuild();
+        }
+        return this.size;
+    }
+
+    private static final class Entry {
+
+        private final Component<? extends Node> component;
+        private final Entry parent;
+        private int enter, exit;
+
+        @Contract(pure = true)
+        private Entry(@NotNull Component<? extends Node> component, @Nullable Entry parent, int enter) {
+            this.component = component;
+            this.parent = parent;
+            this.enter = enter;
+        }
+
+    }
+
+}
@@ -26,38 +26,59 @@ package grevend.declarativefx.component;
 
 import grevend.declarativefx.bindable.BindException;
 import grevend.declarativefx.bindable.Bindable;
+import grevend.declarativefx.bindable.BindableCollection;
 import grevend.declarativefx.bindable.BindableValue;
+import grevend.declarativefx.bindable.Change;
+import grevend.declarativefx.event.EventDelegate;
 import grevend.declarativefx.event.EventHandler;
-import grevend.declarativefx.util.Utils;
+import grevend.declarativefx.property.PropertyKey;
+import grevend.declarativefx.scheduler.RenderScheduler;
 import javafx.beans.InvalidationListener;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
-import javafx.beans.value.WritableObjectValue;
+import javafx.beans.value.WritableValue;
 import javafx.event.Event;
 import javafx.event.EventType;
 import javafx.scene.Node;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class FXComponent<N extends Node> extends ComponentBase<N> {
 
-    private final Map<String, ObservableValue<Object>> observableProperties;
+    /**
+     * Resolved properties as alternating {@link PropertyKey} and {@link ObservableValue} slots,
+     * allocated on first use and compared by key identity.
+     */
+    private Object[] observableProperties;
 
     public FXComponent(@NotNull N node) {
         super(node);
-        this.observableProperties = new WeakHashMap<>();
     }
 
     @NotNull
     @Override
     public <E extends Event> Component<N> on(@NotNull EventType<E> type, @NotNull EventHandler<E> handler) {
-        this.getNode().addEventHandler(type, event -> handler.onEvent(event, this));
+        var node = this.getNode();
+        javafx.event.EventHandler<E> eventHandler = event -> handler.onEvent(event, this);
+        this.track(() -> node.addEventHandler(type, eventHandler), () -> node.removeEventHandler(type, eventHandler));
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public <E extends Event> Component<N> delegate(@NotNull EventType<E> type, @NotNull EventHandler<E> handler) {
+        var node = this.getNode();
+        var bubbling = EventDelegate.bubbling(type);
+        var eventHandler = this.getEventDelegate().wrap(handler);
+        this.track(() -> node.addEventHandler(bubbling, eventHandler), () -> node.removeEventHandler(bubbling, eventHandler));
         return this;
     }
 
@@ -65,50 +86,42 @@ public class FXComponent<N extends Node> extends ComponentBase<N> {
     @Override
     @SuppressWarnings("unchecked")
     public <T> Component<N> on(@NotNull String property, @NotNull ChangeListener<T> listener) {
-        var observableValue = Utils.getObservableValue(this.getNode(), this.observableProperties, property);
-        if (observableValue == null) {
-            throw new IllegalArgumentException("Property " + property.toLowerCase() + " does not exist.");
-        } else {
-            observableValue.addListener((ChangeListener<Object>) listener);
-            return this;
-        }
+        return this.on(PropertyKey.of(property), (ChangeListener<Object>) listener);
     }
 
     @NotNull
     @Override
     public Component<N> on(@NotNull String property, @NotNull InvalidationListener listener) {
-        var observableValue = Utils.getObservableValue(this.getNode(), this.observableProperties, property);
-        if (observableValue == null) {
-            throw new IllegalArgumentException("Property " + property.toLowerCase() + " does not exist.");
-        } else {
-            observableValue.addListener(listener);
-            return this;
-        }
+        return this.on(PropertyKey.of(property), listener);
     }
 
     @NotNull
     @Override
-    @SuppressWarnings("unchecked")
     public Component<N> bind(@NotNull String property, @NotNull Bindable value) {
-        var observableValue = Utils.getObservableValue(this.getNode(), this.observableProperties, property);
-        if (observableValue == null) {
-            throw new IllegalArgumentException("Property " + property.toLowerCase() + " does not exist.");
-        } else {
-            this.getProperties().put(property, value);
-            if (observableValue instanceof WritableObjectValue) {
-                value.subscribe(((WritableObjectValue<Object>) observableValue)::setValue);
-            }
-            return this;
-        }
+        return this.bind(PropertyKey.of(property), value, property);
+    }
+
+    @NotNull
+    @Override
+    public <E, R> Component<N> compute(@NotNull String property, @NotNull BindableCollection<E> collection, @NotNull Function<BindableCollection<E>, R> function) {
+        var bindable = new BindableValue();
+        BiConsumer<Change, Collection<? extends E>> consumer = (change, changes) -> bindable.set(function.apply(collection));
+        this.track(() -> {
+            collection.subscribe(consumer);
+            consumer.accept(Change.UPDATE, collection);
+        }, () -> collection.unsubscribe(consumer));
+        return this.bind(property, bindable);
     }
 
     @NotNull
     @Override
     public Component<N> compute(@NotNull String property, @NotNull Bindable dependency, @NotNull Function<Bindable, Object> function) {
-        if (this.getProperty(property) == null) {
+        var bindable = this.getProperty(property);
+        if (bindable == null) {
             throw new BindException(this.toString());
         } else {
-            Objects.requireNonNull(this.getProperty(property)).compute(dependency, function);
+            Consumer<Object> consumer = value -> bindable.set(function.apply(bindable));
+            this.track(() -> dependency.subscribe(consumer), () -> dependency.unsubscribe(consumer));
             return this;
         }
     }
@@ -119,58 +132,135 @@ public class FXComponent<N extends Node> extends ComponentBase<N> {
         if (this.getProperty(property) == null) {
             this.bind(property, new BindableValue(this.get(property)));
         }
-        Objects.requireNonNull(this.getProperty(property)).compute(dependency, supplier);
+        var bindable = Objects.requireNonNull(this.getProperty(property));
+        Consumer<Object> consumer = value -> bindable.set(supplier.get());
+        this.track(() -> dependency.subscribe(consumer), () -> dependency.unsubscribe(consumer));
         return this;
     }
 
     @NotNull
     @Override
-    @SuppressWarnings("unchecked")
     public Component<N> set(@NotNull String property, @Nullable Object value) {
-        switch (property.toLowerCase()) {
-            case "id":
-                this.getNode().setId((String) Objects.requireNonNull(value));
-                break;
-            case "style":
-                this.getNode().setStyle((String) Objects.requireNonNull(value));
-                break;
-            case "marker":
-                this.setMarker((Integer) Objects.requireNonNull(value));
-                break;
-            default:
-                var observableValue = Utils.getObservableValue(this.getNode(), this.observableProperties, property);
-                if (observableValue == null) {
-                    throw new IllegalArgumentException("Property " + property.toLowerCase() + " does not exist.");
-                } else {
-                    if (observableValue instanceof WritableObjectValue) {
-                        ((WritableObjectValue<Object>) observableValue).setValue(value);
-                    }
-                }
-                break;
+        return this.set(PropertyKey.of(property), value);
+    }
+
+    @Nullable
+    @Override
+    public Object get(@NotNull String property) {
+        return this.get(PropertyKey.of(property));
+    }
+
+    @NotNull
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Component<N> set(@NotNull PropertyKey<T> property, @Nullable T value) {
+        if (property.isSpecial()) {
+            switch (property.getName()) {
+                case "id":
+                    this.getNode().setId((String) Objects.requireNonNull(value));
+                    return this;
+                case "style":
+                    this.getNode().setStyle((String) Objects.requireNonNull(value));
+                    return this;
+                case "marker":
+                    this.setMarker((Integer) Objects.requireNonNull(value));
+                    return this;
+                default:
+                    break;
+            }
+        }
+        var observableValue = this.observe(property);
+        if (observableValue instanceof WritableValue) {
+            ((WritableValue<T>) observableValue).setValue(value);
         }
         return this;
     }
 
     @Nullable
     @Override
-    public Object get(@NotNull String property) {
-        switch (property.toLowerCase()) {
-            case "id":
-                return this.getNode().getId();
-            case "style":
-                return this.getNode().getStyle();
-            case "styleclass":
-                return this.getNode().getStyleClass();
-            case "marker":
-                return this.getMarker();
-            default:
-                var observableValue = Utils.getObservableValue(this.getNode(), this.observableProperties, property);
-                if (observableValue == null) {
-                    throw new IllegalArgumentException("Property " + property.toLowerCase() + " does not exist.");
-                } else {
-                    return observableValue.getValue();
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NotNull PropertyKey<T> property) {
+        if (property.isSpecial()) {
+            switch (property.getName()) {
+                case "id":
+                    return (T) this.getNode().getId();
+                case "style":
+                    return (T) this.getNode().getStyle();
+                case "styleclass":
+                    return (T) this.getNode().getStyleClass();
+                case "marker":
+                    return (T) (Integer) this.getMarker();
+                default:
+                    break;
+            }
+        }
+        return this.observe(property).getValue();
+    }
+
+    @NotNull
+    @Override
+    public <T> Component<N> bind(@NotNull PropertyKey<T> property, @NotNull Bindable value) {
+        return this.bind(property, value, property.getName());
+    }
+
+    /**
+     * @param name the name {@code value} is stored under in {@link #getProperties()}, as passed
+     *             by the caller.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private <T> Component<N> bind(@NotNull PropertyKey<T> property, @NotNull Bindable value, @NotNull String name) {
+        var observableValue = this.observe(property);
+        this.setProperty(name, value);
+        if (observableValue instanceof WritableValue) {
+            var node = this.getNode();
+            var writableValue = (WritableValue<Object>) observableValue;
+            Consumer<Object> consumer = newValue -> RenderScheduler.write(node, writableValue, newValue);
+            this.track(() -> value.subscribe(consumer), () -> value.unsubscribe(consumer));
+        }
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public <T> Component<N> on(@NotNull PropertyKey<T> property, @NotNull ChangeListener<? super T> listener) {
+        var observableValue = this.observe(property);
+        this.track(() -> observableValue.addListener(listener), () -> observableValue.removeListener(listener));
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public Component<N> on(@NotNull PropertyKey<?> property, @NotNull InvalidationListener listener) {
+        var observableValue = this.observe(property);
+        this.track(() -> observableValue.addListener(listener), () -> observableValue.removeListener(listener));
+        return this;
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private <T> ObservableValue<T> observe(@NotNull PropertyKey<T> property) {
+        var slots = this.observableProperties;
+        var free = 0;
+        if (slots != null) {
+            for (; free < slots.length && slots[free] != null; free += 2) {
+                if (slots[free] == property) {
+                    return (ObservableValue<T>) slots[free + 1];
                 }
+            }
+        }
+        var observableValue = property.resolve(this.getNode());
+        if (observableValue == null) {
+            throw new IllegalArgumentException("Property " + property.getName() + " does not exist.");
+        }
+        if (slots == null) {
+            slots = this.observableProperties = new Object[2];
+        } else if (free == slots.length) {
+            slots = this.observableProperties = Arrays.copyOf(slots, slots.length * 2);
         }
+        slots[free] = property;
+        slots[free + 1] = observableValue;
+        return observableValue;
     }
 
 }
@@ -36,6 +36,7 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
+import javafx.util.Duration;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -45,6 +46,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static grevend.declarativefx.component.Compat.FX;
 import static grevend.declarativefx.component.Compat.fluent;
@@ -167,6 +169,18 @@ public class Layout {
             leftComponent != null ? leftComponent.getNode() : null), elements);
     }
 
+    @NotNull
+    @Contract("_ -> new")
+    public static LazyComponent Lazy(@NotNull Supplier<? extends Component<? extends Node>> supplier) {
+        return new LazyComponent(supplier, null);
+    }
+
+    @NotNull
+    @Contract("_, _ -> new")
+    public static LazyComponent Lazy(@NotNull Supplier<? extends Component<? extends Node>> supplier, @NotNull Duration disposeAfter) {
+        return new LazyComponent(supplier, disposeAfter);
+    }
+
     @NotNull
     public static Component<GridPane> GridPane(@NotNull Consumer<GridBuilder> builder) {
         var gridPane = new GridPane();
@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.component;
+
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.control.TitledPane;
+import javafx.scene.layout.StackPane;
+import javafx.util.Duration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A lightweight placeholder that builds and attaches its subtree the first time it becomes
+ * visible, e.g. when its tab is selected, it scrolls into the viewport of a {@link ScrollPane}
+ * or its {@link TitledPane} is expanded.
+ * <p>
+ * Visibility is checked before each layout pass of the scene the placeholder is part of. If a
+ * disposal delay is set, the subtree is disposed again once it stayed hidden for that long and
+ * rebuilt the next time it becomes visible.
+ *
+ * @since 0.7.8
+ */
+public class LazyComponent extends FXComponent<StackPane> {
+
+    private final Supplier<? extends Component<? extends Node>> supplier;
+    private final Duration disposeAfter;
+    private final Runnable pulseListener;
+    private Component<? extends Node> content;
+    private PauseTransition disposal;
+    private Scene scene;
+
+    public LazyComponent(@NotNull Supplier<? extends Component<? extends Node>> supplier, @Nullable Duration disposeAfter) {
+        super(new StackPane());
+        this.supplier = supplier;
+        this.disposeAfter = disposeAfter;
+        this.pulseListener = this::check;
+        this.getNode().sceneProperty().addListener((observable, oldScene, newScene) -> this.listen(newScene));
+    }
+
+    private static boolean isShowing(@NotNull Node node) {
+        if (node.getScene() == null) {
+            return false;
+        }
+        Bounds bounds = null;
+        Node child = node;
+        for (var parent = node; parent != null; child = parent, parent = parent.getParent()) {
+            if (!parent.isVisible()) {
+                return false;
+            } else if (parent != node && parent instanceof TitledPane && !((TitledPane) parent).isExpanded() &&
+                ((TitledPane) parent).getContent() == child) {
+                return false;
+            } else if (parent != node && parent instanceof ScrollPane) {
+                if (bounds == null) {
+                    bounds = node.localToScene(node.getBoundsInLocal());
+                }
+                if (!parent.localToScene(parent.getLayoutBounds()).intersects(bounds)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void listen(@Nullable Scene scene) {
+        if (this.scene != null) {
+            this.scene.removePreLayoutPulseListener(this.pulseListener);
+        }
+        this.scene = this.getLifecycle() == Lifecycle.DISPOSED ? null : scene;
+        if (this.scene != null && (this.content == null || this.disposeAfter != null)) {
+            this.scene.addPreLayoutPulseListener(this.pulseListener);
+        }
+    }
+
+    private void check() {
+        if (isShowing(this.getNode())) {
+            if (this.disposal != null) {
+                this.disposal.stop();
+            }
+            if (this.content == null) {
+                this.materialize();
+            }
+        } else if (this.content != null && this.disposeAfter != null) {
+            if (this.disposal == null) {
+                this.disposal = new PauseTransition(this.disposeAfter);
+                this.disposal.setOnFinished(event -> {
+                    if (!isShowing(this.getNode())) {
+                        this.release();
+                    }
+                });
+            }
+            if (this.disposal.getStatus() != Animation.Status.RUNNING) {
+                this.disposal.playFromStart();
+            }
+        }
+    }
+
+    /**
+     * Builds and attaches the subtree unless it has been built already.
+     */
+    public void materialize() {
+        if (this.content == null) {
+            this.content = this.supplier.get();
+            this.getChildren().setAll(List.of(this.content));
+            if (this.disposeAfter == null) {
+                this.listen(null);
+            }
+        }
+    }
+
+    /**
+     * Disposes the subtree and shows the placeholder again.
+     */
+    public void release() {
+        if (this.content != null) {
+            var content = this.content;
+            this.content = null;
+            this.getChildren().clear();
+            content.dispose();
+            this.listen(this.getNode().getScene());
+        }
+    }
+
+    public boolean isMaterialized() {
+        return this.content != null;
+    }
+
+    @Nullable
+    public Component<? extends Node> getContent() {
+        return this.content;
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        if (this.disposal != null) {
+            this.disposal.stop();
+        }
+        this.listen(null);
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.component;
+
+import javafx.scene.Node;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A build function that returns the previously built component when its inputs are equal, so
+ * that a builder only rebuilds elements whose own data changed.
+ * <p>
+ * Inputs are compared with {@link Object#equals(Object)}. Elements can either serve as their
+ * own inputs or be mapped to explicit input values, e.g. a list of field values or
+ * {@link grevend.declarativefx.bindable.BindableValue#getVersion() bindable versions}.
+ * Components that were not requested by the last build pass are disposed by {@link #sweep()}, the
+ * builders of {@link Compat} and {@link grevend.declarativefx.scheduler.TimeSlicer} sweep after
+ * every completed build.
+ * <p>
+ * {@link #apply(Object)} may be called concurrently, e.g. by
+ * {@link Compat#parallelBuilder(Component, java.util.Collection, Function)}, but not
+ * concurrently with {@link #sweep()} or {@link #clear()}.
+ *
+ * @param <E> the type of the elements components are built for.
+ *
+ * @since 0.7.8
+ */
+public final class Memo<E> implements Function<E, Component<? extends Node>> {
+
+    private static final Object NULL = new Object();
+
+    private final Function<E, ?> inputs;
+    private final Function<E, Component<? extends Node>> build;
+    private final Map<Object, Entry> entries;
+    private volatile int generation;
+
+    @Contract(pure = true)
+    private Memo(@NotNull Function<E, ?> inputs, @NotNull Function<E, Component<? extends Node>> build) {
+        this.inputs = inputs;
+        this.build = build;
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @param build builds the component for an element, keyed on the element itself.
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static <E> Memo<E> of(@NotNull Function<E, Component<? extends Node>> build) {
+        return new Memo<>(Function.identity(), build);
+    }
+
+    /**
+     * @param inputs maps an element to the inputs its component depends on.
+     * @param build  builds the component for an element.
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public static <E> Memo<E> of(@NotNull Function<E, ?> inputs, @NotNull Function<E, Component<? extends Node>> build) {
+        return new Memo<>(inputs, build);
+    }
+
+    @Override
+    public Component<? extends Node> apply(@NotNull E element) {
+        var inputs = this.inputs.apply(element);
+        var key = inputs == null ? NULL : inputs;
+        var generation = this.generation;
+        var entry = this.entries.get(key);
+        if (entry != null && !entry.isDisposed()) {
+            return entry.claim(generation) ? entry.component : this.build.apply(element);
+        }
+        var component = this.build.apply(element);
+        if (component != null) {
+            // If another thread built the same inputs first, this component stays unmemoized.
+            this.entries.merge(key, new Entry(component, generation),
+                (previous, next) -> previous.isDisposed() ? next : previous);
+        }
+        return component;
+    }
+
+    /**
+     * Disposes all components that were not requested by the current build pass.
+     */
+    public void sweep() {
+        var iterator = this.entries.values().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            if (entry.generation.get() != this.generation) {
+                iterator.remove();
+                entry.component.dispose();
+            }
+        }
+        this.generation++;
+    }
+
+    /**
+     * Abandons the current build pass without sweeping, e.g. when a rebuild was superseded.
+     * Every memoized component, including those handed out by the abandoned pass, can be returned
+     * once more by the next pass.
+     */
+    public void restart() {
+        this.generation++;
+    }
+
+    /**
+     * @return the number of memoized components.
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    public void clear() {
+        this.entries.values().forEach(entry -> entry.component.dispose());
+        this.entries.clear();
+    }
+
+    private static final class Entry {
+
+        private final Component<? extends Node> component;
+        private final AtomicInteger generation;
+
+        @Contract(pure = true)
+        private Entry(@NotNull Component<? extends Node> component, int generation) {
+            this.component = component;
+            this.generation = new AtomicInteger(generation);
+        }
+
+        private boolean isDisposed() {
+            return this.component.getLifecycle() == Lifecycle.DISPOSED;
+        }
+
+        /**
+         * @return {@code false} if the component was already handed out during this pass.
+         */
+        private boolean claim(int generation) {
+            var previous = this.generation.get();
+            while (previous != generation) {
+                if (this.generation.compareAndSet(previous, generation)) {
+                    return true;
+                }
+                previous = this.generation.get();
+            }
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.component;
+
+import grevend.declarativefx.DeclarativeFX;
+import javafx.scene.Node;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Weakly remembers components holding tracked subscriptions while {@link DeclarativeFX} runs in
+ * {@link DeclarativeFX.Mode#DEBUG DEBUG} mode, so that components that were dropped from the
+ * scene graph without being unmounted can be reported.
+ *
+ * @since 0.7.8
+ */
+public final class SubscriptionTracker {
+
+    private static final Set<ComponentBase<? extends Node>> COMPONENTS =
+        Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    @Contract(pure = true)
+    private SubscriptionTracker() {
+    }
+
+    static void register(@NotNull ComponentBase<? extends Node> component) {
+        if (DeclarativeFX.getInstance().getMode() == DeclarativeFX.Mode.DEBUG) {
+            COMPONENTS.add(component);
+        }
+    }
+
+    /**
+     * @return all registered components that still hold established subscriptions although
+     * their node is not part of a scene.
+     */
+    @NotNull
+    public static Collection<Component<? extends Node>> findLeaks() {
+        List<ComponentBase<? extends Node>> components;
+        synchronized (COMPONENTS) {
+            components = new ArrayList<>(COMPONENTS);
+        }
+        var leaks = new ArrayList<Component<? extends Node>>();
+        for (ComponentBase<? extends Node> component : components) {
+            if (component.getLifecycle() != Lifecycle.DISPOSED && component.getNode().getScene() == null &&
+                component.getActiveSubscriptions() > 0) {
+                leaks.add(component);
+            }
+        }
+        return leaks;
+    }
+
+}
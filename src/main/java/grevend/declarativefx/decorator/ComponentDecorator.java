@@ -27,7 +27,9 @@ package grevend.declarativefx.decorator;
 import grevend.declarativefx.bindable.Bindable;
 import grevend.declarativefx.bindable.BindableCollection;
 import grevend.declarativefx.component.Component;
+import grevend.declarativefx.component.Lifecycle;
 import grevend.declarativefx.event.EventHandler;
+import grevend.declarativefx.property.PropertyKey;
 import grevend.declarativefx.util.Verbosity;
 import javafx.beans.InvalidationListener;
 import javafx.beans.value.ChangeListener;
@@ -63,6 +65,32 @@ public abstract class ComponentDecorator<N extends Node> implements Component<N>
         return true;
     }
 
+    @Override
+    public boolean isLeaf() {
+        return this.target.isLeaf();
+    }
+
+    @NotNull
+    @Override
+    public Lifecycle getLifecycle() {
+        return this.target.getLifecycle();
+    }
+
+    @Override
+    public void mount() {
+        this.target.mount();
+    }
+
+    @Override
+    public void unmount() {
+        this.target.unmount();
+    }
+
+    @Override
+    public void dispose() {
+        this.target.dispose();
+    }
+
     @NotNull
     @Override
     public N getNode() {
@@ -123,6 +151,12 @@ public abstract class ComponentDecorator<N extends Node> implements Component<N>
         return this.target.on(type, handler);
     }
 
+    @NotNull
+    @Override
+    public <E extends Event> Component<N> delegate(@NotNull EventType<E> type, @NotNull EventHandler<E> handler) {
+        return this.target.delegate(type, handler);
+    }
+
     @NotNull
     @Override
     public <T> Component<N> on(@NotNull String property, @NotNull ChangeListener<T> listener) {
@@ -141,6 +175,12 @@ public abstract class ComponentDecorator<N extends Node> implements Component<N>
         return this.target.bind(property, value);
     }
 
+    @NotNull
+    @Override
+    public <E, R> Component<N> compute(@NotNull String property, @NotNull BindableCollection<E> collection, @NotNull Function<BindableCollection<E>, R> function) {
+        return this.target.compute(property, collection, function);
+    }
+
     @NotNull
     @Override
     public Component<N> compute(@NotNull String property, @NotNull Bindable dependency, @NotNull Function<Bindable, Object> function) {
@@ -165,6 +205,36 @@ public abstract class ComponentDecorator<N extends Node> implements Component<N>
         return this.target.get(property);
     }
 
+    @NotNull
+    @Override
+    public <T> Component<N> set(@NotNull PropertyKey<T> property, @Nullable T value) {
+        return this.target.set(property, value);
+    }
+
+    @Nullable
+    @Override
+    public <T> T get(@NotNull PropertyKey<T> property) {
+        return this.target.get(property);
+    }
+
+    @NotNull
+    @Override
+    public <T> Component<N> bind(@NotNull PropertyKey<T> property, @NotNull Bindable value) {
+        return this.target.bind(property, value);
+    }
+
+    @NotNull
+    @Override
+    public <T> Component<N> on(@NotNull PropertyKey<T> property, @NotNull ChangeListener<? super T> listener) {
+        return this.target.on(property, listener);
+    }
+
+    @NotNull
+    @Override
+    public Component<N> on(@NotNull PropertyKey<?> property, @NotNull InvalidationListener listener) {
+        return this.target.on(property, listener);
+    }
+
     @NotNull
     @Override
     public Map<String, Bindable> getProperties() {
@@ -26,6 +26,7 @@ package grevend.declarativefx.decorator;
 
 import grevend.declarativefx.bindable.BindableCollection;
 import grevend.declarativefx.component.Component;
+import grevend.declarativefx.property.PropertyKey;
 import javafx.scene.Node;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -87,6 +88,16 @@ public class MeasuredComponent<N extends Node> extends ComponentDecorator<N> {
         return Objects.requireNonNull(measure("set-property-value", () -> super.set(property, value)));
     }
 
+    @Override
+    public <T> @Nullable T get(@NotNull PropertyKey<T> property) {
+        return measure("get-property-value", () -> super.get(property));
+    }
+
+    @Override
+    public <T> @NotNull Component<N> set(@NotNull PropertyKey<T> property, @Nullable T value) {
+        return Objects.requireNonNull(measure("set-property-value", () -> super.set(property, value)));
+    }
+
     @Nullable
     private <T> T measure(@NotNull String measurement, @NotNull Supplier<T> supplier) {
         var start = Instant.now();
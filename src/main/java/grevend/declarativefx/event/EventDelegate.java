@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.event;
+
+import grevend.declarativefx.component.Component;
+import javafx.event.Event;
+import javafx.event.EventTarget;
+import javafx.event.EventType;
+import javafx.scene.Node;
+import javafx.scene.input.MouseEvent;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Resolves events that reach a container to the child component they originated from, so a
+ * single handler on the container can serve any number of children.
+ * <p>
+ * {@link MouseEvent#MOUSE_ENTERED} and {@link MouseEvent#MOUSE_EXITED} do not bubble, handlers
+ * for them are therefore registered for {@link MouseEvent#MOUSE_ENTERED_TARGET} and
+ * {@link MouseEvent#MOUSE_EXITED_TARGET} and invoked only when the child itself is entered or
+ * exited, not when the pointer moves between its descendants.
+ *
+ * @since 0.7.8
+ */
+public final class EventDelegate {
+
+    private final Component<? extends Node> container;
+    private Map<Node, Component<? extends Node>> components;
+
+    @Contract(pure = true)
+    public EventDelegate(@NotNull Component<? extends Node> container) {
+        this.container = container;
+    }
+
+    /**
+     * Drops the node to component map, it is rebuilt from the children of the container on the
+     * next resolved event.
+     */
+    public void invalidate() {
+        this.components = null;
+    }
+
+    /**
+     * @param event the event that reached the container.
+     *
+     * @return the child component containing the event target or {@code null} if the event did
+     * not originate from one of the children.
+     */
+    @Nullable
+    public Component<? extends Node> resolve(@NotNull Event event) {
+        EventTarget target = event.getTarget();
+        if (!(target instanceof Node)) {
+            return null;
+        }
+        var components = this.components;
+        if (components == null) {
+            var children = this.container.getChildren();
+            components = this.components = new IdentityHashMap<>(children.size());
+            for (Component<? extends Node> child : children) {
+                if (child != null) {
+                    components.put(child.getNode(), child);
+                }
+            }
+        }
+        var containerNode = this.container.getNode();
+        for (var node = (Node) target; node != null && node != containerNode; node = node.getParent()) {
+            var component = components.get(node);
+            if (component != null) {
+                return component;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the event type a handler for {@code type} has to be registered for on the
+     * container, so that events of the children reach it.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <E extends Event> EventType<E> bubbling(@NotNull EventType<E> type) {
+        if (type == MouseEvent.MOUSE_ENTERED) {
+            return (EventType<E>) MouseEvent.MOUSE_ENTERED_TARGET;
+        } else if (type == MouseEvent.MOUSE_EXITED) {
+            return (EventType<E>) MouseEvent.MOUSE_EXITED_TARGET;
+        }
+        return type;
+    }
+
+    private static boolean isHover(@NotNull Event event) {
+        var type = event.getEventType();
+        return type == MouseEvent.MOUSE_ENTERED || type == MouseEvent.MOUSE_ENTERED_TARGET ||
+            type == MouseEvent.MOUSE_EXITED || type == MouseEvent.MOUSE_EXITED_TARGET;
+    }
+
+    /**
+     * @param handler the handler invoked with the resolved child component.
+     *
+     * @return a JavaFX handler for the container node that dispatches to {@code handler}.
+     */
+    @NotNull
+    public <E extends Event> javafx.event.EventHandler<E> wrap(@NotNull EventHandler<E> handler) {
+        return event -> {
+            var component = this.resolve(event);
+            if (component != null && (!isHover(event) || event.getTarget() == component.getNode())) {
+                handler.onEvent(event, component);
+            }
+        };
+    }
+
+}
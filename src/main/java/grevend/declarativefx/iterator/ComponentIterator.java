@@ -29,26 +29,87 @@ import javafx.scene.Node;
 import javafx.scene.control.TreeView;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayDeque;
-import java.util.Iterator;
-import java.util.Queue;
+import java.util.*;
 
+/**
+ * Iterates over all descendants of a root component, breadth-first by default.
+ * <p>
+ * Pending components are kept in a single deque and the children of list-backed components
+ * are read by index, so iterating allocates nothing but the occasional growth of that deque.
+ */
 public class ComponentIterator implements Iterator<Component<? extends Node>> {
 
-    private final Queue<Iterator<Component<? extends Node>>> queue;
-    private final TreeView<String> treeView;
+    private final ArrayDeque<Component<? extends Node>> pending;
     private final Component<? extends Node> root;
+    private final Order order;
+    private TreeView<String> treeView;
 
     public ComponentIterator(@NotNull Component<? extends Node> root) {
-        this.queue = new ArrayDeque<>();
-        this.treeView = new TreeView<>();
+        this(root, Order.BREADTH_FIRST);
+    }
+
+    /**
+     * @since 0.7.8
+     */
+    public ComponentIterator(@NotNull Component<? extends Node> root, @NotNull Order order) {
+        this.pending = new ArrayDeque<>();
         this.root = root;
-        this.queue.add(root.getChildren().iterator());
+        this.order = order;
+        pushChildren(root, this.pending, order == Order.DEPTH_FIRST);
+    }
+
+    /**
+     * Adds the non-null children of {@code parent} to {@code deque}, in reverse order to its
+     * head if {@code first} so that they are polled in order, otherwise in order to its tail.
+     */
+    static void pushChildren(@NotNull Component<? extends Node> parent, @NotNull ArrayDeque<Component<? extends Node>> deque, boolean first) {
+        if (parent.isLeaf()) {
+            return;
+        }
+        var children = parent.getChildren().getCollection();
+        if (children instanceof List && children instanceof RandomAccess) {
+            var list = (List<Component<? extends Node>>) children;
+            if (first) {
+                for (var i = list.size() - 1; i >= 0; i--) {
+                    push(parent, list.get(i), deque, true);
+                }
+            } else {
+                for (var i = 0; i < list.size(); i++) {
+                    push(parent, list.get(i), deque, false);
+                }
+            }
+        } else if (first) {
+            var array = children.toArray();
+            for (var i = array.length - 1; i >= 0; i--) {
+                push(parent, (Component<?>) array[i], deque, true);
+            }
+        } else {
+            for (Component<? extends Node> child : children) {
+                push(parent, child, deque, false);
+            }
+        }
+    }
+
+    private static void push(@NotNull Component<? extends Node> parent, Component<? extends Node> child, @NotNull ArrayDeque<Component<? extends Node>> deque, boolean first) {
+        if (child != null && child != parent) {
+            if (first) {
+                deque.addFirst(child);
+            } else {
+                deque.addLast(child);
+            }
+        }
     }
 
+    /**
+     * @deprecated the tree view is no longer used by the iterator and only created on demand.
+     */
     @NotNull
+    @Deprecated
     public TreeView<String> getTreeView() {
-        return treeView;
+        if (this.treeView == null) {
+            this.treeView = new TreeView<>();
+        }
+        return this.treeView;
     }
 
     @NotNull
@@ -56,24 +117,32 @@ public class ComponentIterator implements Iterator<Component<? extends Node>> {
         return root;
     }
 
+    @NotNull
+    public Order getOrder() {
+        return order;
+    }
+
     @Override
     public boolean hasNext() {
-        while (!this.queue.isEmpty()) {
-            if (this.queue.peek().hasNext()) {
-                return true;
-            } else {
-                this.queue.poll();
-            }
-        }
-        return false;
+        return !this.pending.isEmpty();
     }
 
     @NotNull
     @Override
     public Component<? extends Node> next() {
-        var next = this.queue.element().next();
-        this.queue.offer(next.getChildren().iterator());
+        var next = this.pending.pollFirst();
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        pushChildren(next, this.pending, this.order == Order.DEPTH_FIRST);
         return next;
     }
 
+    /**
+     * @since 0.7.8
+     */
+    public enum Order {
+        BREADTH_FIRST, DEPTH_FIRST;
+    }
+
 }
@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.iterator;
+
+import grevend.declarativefx.component.Component;
+import javafx.scene.Node;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A depth-first, pre-order {@link Spliterator} over all descendants of a root component that
+ * splits at subtrees, so that parallel streams over large trees scale.
+ * <p>
+ * Splitting hands off the first half of the pending subtrees, or, if only one subtree is
+ * pending, its root alone while keeping its children. The tree is counted once, lazily on the
+ * first call to {@link #estimateSize()}; splits then divide that count by the share of pending
+ * subtrees handed off, so the size is an estimate rather than exact.
+ *
+ * @since 0.7.8
+ */
+public class ComponentSpliterator implements Spliterator<Component<? extends Node>> {
+
+    private final ArrayDeque<Component<? extends Node>> subtrees;
+    private Component<? extends Node> head;
+    private long size;
+
+    public ComponentSpliterator(@NotNull Component<? extends Node> root) {
+        this(null, new ArrayDeque<>(), -1);
+        ComponentIterator.pushChildren(root, this.subtrees, false);
+    }
+
+    @Contract(pure = true)
+    private ComponentSpliterator(@Nullable Component<? extends Node> head, @NotNull ArrayDeque<Component<? extends Node>> subtrees, long size) {
+        this.head = head;
+        this.subtrees = subtrees;
+        this.size = size;
+    }
+
+    @Override
+    public boolean tryAdvance(@NotNull Consumer<? super Component<? extends Node>> action) {
+        Component<? extends Node> next;
+        if (this.head != null) {
+            next = this.head;
+            this.head = null;
+        } else {
+            next = this.subtrees.pollFirst();
+            if (next == null) {
+                return false;
+            }
+            ComponentIterator.pushChildren(next, this.subtrees, true);
+        }
+        if (this.size > 0) {
+            this.size--;
+        }
+        action.accept(next);
+        return true;
+    }
+
+    @Nullable
+    @Override
+    public Spliterator<Component<? extends Node>> trySplit() {
+        if (this.head != null) {
+            return null;
+        }
+        var pending = this.subtrees.size();
+        if (pending >= 2) {
+            var half = pending / 2;
+            var prefix = new ArrayDeque<Component<? extends Node>>(half);
+            for (var i = 0; i < half; i++) {
+                prefix.addLast(this.subtrees.pollFirst());
+            }
+            var size = this.estimateSize();
+            var share = size * half / pending;
+            this.size = size - share;
+            return new ComponentSpliterator(null, prefix, share);
+        } else if (pending == 1 && !this.subtrees.peekFirst().isLeaf()) {
+            var root = this.subtrees.pollFirst();
+            ComponentIterator.pushChildren(root, this.subtrees, false);
+            this.size = Math.max(this.estimateSize() - 1, 0);
+            return new ComponentSpliterator(root, new ArrayDeque<>(0), 1);
+        }
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (this.size < 0) {
+            long size = this.head != null ? 1 : 0;
+            var pending = new ArrayDeque<>(this.subtrees);
+            Component<? extends Node> component;
+            while ((component = pending.pollFirst()) != null) {
+                size++;
+                ComponentIterator.pushChildren(component, pending, true);
+            }
+            this.size = size;
+        }
+        return this.size;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+}
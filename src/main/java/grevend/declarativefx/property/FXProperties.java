@@ -0,0 +1,1492 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.property;
+
+import javafx.beans.value.ObservableValue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Typed property descriptors of the node classes used by {@link grevend.declarativefx.component.Layout}
+ * and {@link grevend.declarativefx.component.Controls}.
+ * <p>
+ * Generated by {@code PropertyDescriptorGenerator}, do not edit. Regenerate with
+ * {@code mvn -P codegen process-classes}.
+ *
+ * @since 0.7.8
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public final class FXProperties {
+
+    private FXProperties() {}
+
+    public static final class BorderPane {
+
+        public static final PropertyDescriptor<javafx.scene.layout.BorderPane, javafx.scene.Node> BOTTOM =
+            new PropertyDescriptor<>("bottom", javafx.scene.layout.BorderPane.class, javafx.scene.layout.BorderPane::bottomProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.BorderPane, javafx.scene.Node> CENTER =
+            new PropertyDescriptor<>("center", javafx.scene.layout.BorderPane.class, javafx.scene.layout.BorderPane::centerProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.BorderPane, javafx.scene.Node> LEFT =
+            new PropertyDescriptor<>("left", javafx.scene.layout.BorderPane.class, javafx.scene.layout.BorderPane::leftProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.BorderPane, javafx.scene.Node> RIGHT =
+            new PropertyDescriptor<>("right", javafx.scene.layout.BorderPane.class, javafx.scene.layout.BorderPane::rightProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.BorderPane, javafx.scene.Node> TOP =
+            new PropertyDescriptor<>("top", javafx.scene.layout.BorderPane.class, javafx.scene.layout.BorderPane::topProperty, true);
+
+        private BorderPane() {}
+
+    }
+
+    public static final class Button {
+
+        public static final PropertyDescriptor<javafx.scene.control.Button, java.lang.Boolean> CANCEL_BUTTON =
+            new PropertyDescriptor<>("cancelbutton", javafx.scene.control.Button.class, javafx.scene.control.Button::cancelButtonProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Button, java.lang.Boolean> DEFAULT_BUTTON =
+            new PropertyDescriptor<>("defaultbutton", javafx.scene.control.Button.class, javafx.scene.control.Button::defaultButtonProperty, true);
+
+        private Button() {}
+
+    }
+
+    public static final class ButtonBase {
+
+        public static final PropertyDescriptor<javafx.scene.control.ButtonBase, java.lang.Boolean> ARMED =
+            new PropertyDescriptor<>("armed", javafx.scene.control.ButtonBase.class, javafx.scene.control.ButtonBase::armedProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.control.ButtonBase, javafx.event.EventHandler<javafx.event.ActionEvent>> ON_ACTION =
+            new PropertyDescriptor<>("onaction", javafx.scene.control.ButtonBase.class, javafx.scene.control.ButtonBase::onActionProperty, true);
+
+        private ButtonBase() {}
+
+    }
+
+    public static final class ChoiceBox {
+
+        public static final PropertyDescriptor<javafx.scene.control.ChoiceBox, java.lang.Object> CONVERTER =
+            new PropertyDescriptor<>("converter", javafx.scene.control.ChoiceBox.class, node -> cast(node.converterProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ChoiceBox, java.lang.Object> ITEMS =
+            new PropertyDescriptor<>("items", javafx.scene.control.ChoiceBox.class, node -> cast(node.itemsProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ChoiceBox, java.lang.Object> ON_ACTION =
+            new PropertyDescriptor<>("onaction", javafx.scene.control.ChoiceBox.class, node -> cast(node.onActionProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ChoiceBox, java.lang.Object> ON_HIDDEN =
+            new PropertyDescriptor<>("onhidden", javafx.scene.control.ChoiceBox.class, node -> cast(node.onHiddenProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ChoiceBox, java.lang.Object> ON_HIDING =
+            new PropertyDescriptor<>("onhiding", javafx.scene.control.ChoiceBox.class, node -> cast(node.onHidingProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ChoiceBox, java.lang.Object> ON_SHOWING =
+            new PropertyDescriptor<>("onshowing", javafx.scene.control.ChoiceBox.class, node -> cast(node.onShowingProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ChoiceBox, java.lang.Object> ON_SHOWN =
+            new PropertyDescriptor<>("onshown", javafx.scene.control.ChoiceBox.class, node -> cast(node.onShownProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ChoiceBox, java.lang.Object> SELECTION_MODEL =
+            new PropertyDescriptor<>("selectionmodel", javafx.scene.control.ChoiceBox.class, node -> cast(node.selectionModelProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ChoiceBox, java.lang.Object> SHOWING =
+            new PropertyDescriptor<>("showing", javafx.scene.control.ChoiceBox.class, node -> cast(node.showingProperty()), false);
+
+        public static final PropertyDescriptor<javafx.scene.control.ChoiceBox, java.lang.Object> VALUE =
+            new PropertyDescriptor<>("value", javafx.scene.control.ChoiceBox.class, node -> cast(node.valueProperty()), true);
+
+        private ChoiceBox() {}
+
+    }
+
+    public static final class Control {
+
+        public static final PropertyDescriptor<javafx.scene.control.Control, javafx.scene.control.ContextMenu> CONTEXT_MENU =
+            new PropertyDescriptor<>("contextmenu", javafx.scene.control.Control.class, javafx.scene.control.Control::contextMenuProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Control, javafx.scene.control.Skin<?>> SKIN =
+            new PropertyDescriptor<>("skin", javafx.scene.control.Control.class, javafx.scene.control.Control::skinProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Control, javafx.scene.control.Tooltip> TOOLTIP =
+            new PropertyDescriptor<>("tooltip", javafx.scene.control.Control.class, javafx.scene.control.Control::tooltipProperty, true);
+
+        private Control() {}
+
+    }
+
+    public static final class GridPane {
+
+        public static final PropertyDescriptor<javafx.scene.layout.GridPane, javafx.geometry.Pos> ALIGNMENT =
+            new PropertyDescriptor<>("alignment", javafx.scene.layout.GridPane.class, javafx.scene.layout.GridPane::alignmentProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.GridPane, java.lang.Boolean> GRID_LINES_VISIBLE =
+            new PropertyDescriptor<>("gridlinesvisible", javafx.scene.layout.GridPane.class, javafx.scene.layout.GridPane::gridLinesVisibleProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.GridPane, java.lang.Number> HGAP =
+            new PropertyDescriptor<>("hgap", javafx.scene.layout.GridPane.class, javafx.scene.layout.GridPane::hgapProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.GridPane, java.lang.Number> VGAP =
+            new PropertyDescriptor<>("vgap", javafx.scene.layout.GridPane.class, javafx.scene.layout.GridPane::vgapProperty, true);
+
+        private GridPane() {}
+
+    }
+
+    public static final class HBox {
+
+        public static final PropertyDescriptor<javafx.scene.layout.HBox, javafx.geometry.Pos> ALIGNMENT =
+            new PropertyDescriptor<>("alignment", javafx.scene.layout.HBox.class, javafx.scene.layout.HBox::alignmentProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.HBox, java.lang.Boolean> FILL_HEIGHT =
+            new PropertyDescriptor<>("fillheight", javafx.scene.layout.HBox.class, javafx.scene.layout.HBox::fillHeightProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.HBox, java.lang.Number> SPACING =
+            new PropertyDescriptor<>("spacing", javafx.scene.layout.HBox.class, javafx.scene.layout.HBox::spacingProperty, true);
+
+        private HBox() {}
+
+    }
+
+    public static final class Hyperlink {
+
+        public static final PropertyDescriptor<javafx.scene.control.Hyperlink, java.lang.Boolean> VISITED =
+            new PropertyDescriptor<>("visited", javafx.scene.control.Hyperlink.class, javafx.scene.control.Hyperlink::visitedProperty, true);
+
+        private Hyperlink() {}
+
+    }
+
+    public static final class ImageView {
+
+        public static final PropertyDescriptor<javafx.scene.image.ImageView, java.lang.Number> FIT_HEIGHT =
+            new PropertyDescriptor<>("fitheight", javafx.scene.image.ImageView.class, javafx.scene.image.ImageView::fitHeightProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.image.ImageView, java.lang.Number> FIT_WIDTH =
+            new PropertyDescriptor<>("fitwidth", javafx.scene.image.ImageView.class, javafx.scene.image.ImageView::fitWidthProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.image.ImageView, javafx.scene.image.Image> IMAGE =
+            new PropertyDescriptor<>("image", javafx.scene.image.ImageView.class, javafx.scene.image.ImageView::imageProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.image.ImageView, java.lang.Boolean> PRESERVE_RATIO =
+            new PropertyDescriptor<>("preserveratio", javafx.scene.image.ImageView.class, javafx.scene.image.ImageView::preserveRatioProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.image.ImageView, java.lang.Boolean> SMOOTH =
+            new PropertyDescriptor<>("smooth", javafx.scene.image.ImageView.class, javafx.scene.image.ImageView::smoothProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.image.ImageView, javafx.geometry.Rectangle2D> VIEWPORT =
+            new PropertyDescriptor<>("viewport", javafx.scene.image.ImageView.class, javafx.scene.image.ImageView::viewportProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.image.ImageView, java.lang.Number> X =
+            new PropertyDescriptor<>("x", javafx.scene.image.ImageView.class, javafx.scene.image.ImageView::xProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.image.ImageView, java.lang.Number> Y =
+            new PropertyDescriptor<>("y", javafx.scene.image.ImageView.class, javafx.scene.image.ImageView::yProperty, true);
+
+        private ImageView() {}
+
+    }
+
+    public static final class Label {
+
+        public static final PropertyDescriptor<javafx.scene.control.Label, javafx.scene.Node> LABEL_FOR =
+            new PropertyDescriptor<>("labelfor", javafx.scene.control.Label.class, javafx.scene.control.Label::labelForProperty, true);
+
+        private Label() {}
+
+    }
+
+    public static final class Labeled {
+
+        public static final PropertyDescriptor<javafx.scene.control.Labeled, javafx.geometry.Pos> ALIGNMENT =
+            new PropertyDescriptor<>("alignment", javafx.scene.control.Labeled.class, javafx.scene.control.Labeled::alignmentProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Labeled, javafx.scene.control.ContentDisplay> CONTENT_DISPLAY =
+            new PropertyDescriptor<>("contentdisplay", javafx.scene.control.Labeled.class, javafx.scene.control.Labeled::contentDisplayProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Labeled, java.lang.String> ELLIPSIS_STRING =
+            new PropertyDescriptor<>("ellipsisstring", javafx.scene.control.Labeled.class, javafx.scene.control.Labeled::ellipsisStringProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Labeled, javafx.scene.text.Font> FONT =
+            new PropertyDescriptor<>("font", javafx.scene.control.Labeled.class, javafx.scene.control.Labeled::fontProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Labeled, javafx.scene.Node> GRAPHIC =
+            new PropertyDescriptor<>("graphic", javafx.scene.control.Labeled.class, javafx.scene.control.Labeled::graphicProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Labeled, java.lang.Number> GRAPHIC_TEXT_GAP =
+            new PropertyDescriptor<>("graphictextgap", javafx.scene.control.Labeled.class, javafx.scene.control.Labeled::graphicTextGapProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Labeled, javafx.geometry.Insets> LABEL_PADDING =
+            new PropertyDescriptor<>("labelpadding", javafx.scene.control.Labeled.class, javafx.scene.control.Labeled::labelPaddingProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.control.Labeled, java.lang.Number> LINE_SPACING =
+            new PropertyDescriptor<>("linespacing", javafx.scene.control.Labeled.class, javafx.scene.control.Labeled::lineSpacingProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Labeled, java.lang.Boolean> MNEMONIC_PARSING =
+            new PropertyDescriptor<>("mnemonicparsing", javafx.scene.control.Labeled.class, javafx.scene.control.Labeled::mnemonicParsingProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Labeled, java.lang.String> TEXT =
+            new PropertyDescriptor<>("text", javafx.scene.control.Labeled.class, javafx.scene.control.Labeled::textProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Labeled, javafx.scene.text.TextAlignment> TEXT_ALIGNMENT =
+            new PropertyDescriptor<>("textalignment", javafx.scene.control.Labeled.class, javafx.scene.control.Labeled::textAlignmentProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Labeled, javafx.scene.paint.Paint> TEXT_FILL =
+            new PropertyDescriptor<>("textfill", javafx.scene.control.Labeled.class, javafx.scene.control.Labeled::textFillProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Labeled, javafx.scene.control.OverrunStyle> TEXT_OVERRUN =
+            new PropertyDescriptor<>("textoverrun", javafx.scene.control.Labeled.class, javafx.scene.control.Labeled::textOverrunProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Labeled, java.lang.Boolean> UNDERLINE =
+            new PropertyDescriptor<>("underline", javafx.scene.control.Labeled.class, javafx.scene.control.Labeled::underlineProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Labeled, java.lang.Boolean> WRAP_TEXT =
+            new PropertyDescriptor<>("wraptext", javafx.scene.control.Labeled.class, javafx.scene.control.Labeled::wrapTextProperty, true);
+
+        private Labeled() {}
+
+    }
+
+    public static final class ListView {
+
+        public static final PropertyDescriptor<javafx.scene.control.ListView, java.lang.Object> CELL_FACTORY =
+            new PropertyDescriptor<>("cellfactory", javafx.scene.control.ListView.class, node -> cast(node.cellFactoryProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ListView, java.lang.Object> EDITABLE =
+            new PropertyDescriptor<>("editable", javafx.scene.control.ListView.class, node -> cast(node.editableProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ListView, java.lang.Object> EDITING_INDEX =
+            new PropertyDescriptor<>("editingindex", javafx.scene.control.ListView.class, node -> cast(node.editingIndexProperty()), false);
+
+        public static final PropertyDescriptor<javafx.scene.control.ListView, java.lang.Object> FIXED_CELL_SIZE =
+            new PropertyDescriptor<>("fixedcellsize", javafx.scene.control.ListView.class, node -> cast(node.fixedCellSizeProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ListView, java.lang.Object> FOCUS_MODEL =
+            new PropertyDescriptor<>("focusmodel", javafx.scene.control.ListView.class, node -> cast(node.focusModelProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ListView, java.lang.Object> ITEMS =
+            new PropertyDescriptor<>("items", javafx.scene.control.ListView.class, node -> cast(node.itemsProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ListView, java.lang.Object> ON_EDIT_CANCEL =
+            new PropertyDescriptor<>("oneditcancel", javafx.scene.control.ListView.class, node -> cast(node.onEditCancelProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ListView, java.lang.Object> ON_EDIT_COMMIT =
+            new PropertyDescriptor<>("oneditcommit", javafx.scene.control.ListView.class, node -> cast(node.onEditCommitProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ListView, java.lang.Object> ON_EDIT_START =
+            new PropertyDescriptor<>("oneditstart", javafx.scene.control.ListView.class, node -> cast(node.onEditStartProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ListView, java.lang.Object> ON_SCROLL_TO =
+            new PropertyDescriptor<>("onscrollto", javafx.scene.control.ListView.class, node -> cast(node.onScrollToProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ListView, java.lang.Object> ORIENTATION =
+            new PropertyDescriptor<>("orientation", javafx.scene.control.ListView.class, node -> cast(node.orientationProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ListView, java.lang.Object> PLACEHOLDER =
+            new PropertyDescriptor<>("placeholder", javafx.scene.control.ListView.class, node -> cast(node.placeholderProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ListView, java.lang.Object> SELECTION_MODEL =
+            new PropertyDescriptor<>("selectionmodel", javafx.scene.control.ListView.class, node -> cast(node.selectionModelProperty()), true);
+
+        private ListView() {}
+
+    }
+
+    public static final class Node {
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.String> ACCESSIBLE_HELP =
+            new PropertyDescriptor<>("accessiblehelp", javafx.scene.Node.class, javafx.scene.Node::accessibleHelpProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.scene.AccessibleRole> ACCESSIBLE_ROLE =
+            new PropertyDescriptor<>("accessiblerole", javafx.scene.Node.class, javafx.scene.Node::accessibleRoleProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.String> ACCESSIBLE_ROLE_DESCRIPTION =
+            new PropertyDescriptor<>("accessibleroledescription", javafx.scene.Node.class, javafx.scene.Node::accessibleRoleDescriptionProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.String> ACCESSIBLE_TEXT =
+            new PropertyDescriptor<>("accessibletext", javafx.scene.Node.class, javafx.scene.Node::accessibleTextProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.scene.effect.BlendMode> BLEND_MODE =
+            new PropertyDescriptor<>("blendmode", javafx.scene.Node.class, javafx.scene.Node::blendModeProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.geometry.Bounds> BOUNDS_IN_LOCAL =
+            new PropertyDescriptor<>("boundsinlocal", javafx.scene.Node.class, javafx.scene.Node::boundsInLocalProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.geometry.Bounds> BOUNDS_IN_PARENT =
+            new PropertyDescriptor<>("boundsinparent", javafx.scene.Node.class, javafx.scene.Node::boundsInParentProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Boolean> CACHE =
+            new PropertyDescriptor<>("cache", javafx.scene.Node.class, javafx.scene.Node::cacheProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.scene.CacheHint> CACHE_HINT =
+            new PropertyDescriptor<>("cachehint", javafx.scene.Node.class, javafx.scene.Node::cacheHintProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.scene.Node> CLIP =
+            new PropertyDescriptor<>("clip", javafx.scene.Node.class, javafx.scene.Node::clipProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.scene.Cursor> CURSOR =
+            new PropertyDescriptor<>("cursor", javafx.scene.Node.class, javafx.scene.Node::cursorProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.scene.DepthTest> DEPTH_TEST =
+            new PropertyDescriptor<>("depthtest", javafx.scene.Node.class, javafx.scene.Node::depthTestProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Boolean> DISABLE =
+            new PropertyDescriptor<>("disable", javafx.scene.Node.class, javafx.scene.Node::disableProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Boolean> DISABLED =
+            new PropertyDescriptor<>("disabled", javafx.scene.Node.class, javafx.scene.Node::disabledProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.scene.effect.Effect> EFFECT =
+            new PropertyDescriptor<>("effect", javafx.scene.Node.class, javafx.scene.Node::effectProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.geometry.NodeOrientation> EFFECTIVE_NODE_ORIENTATION =
+            new PropertyDescriptor<>("effectivenodeorientation", javafx.scene.Node.class, javafx.scene.Node::effectiveNodeOrientationProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventDispatcher> EVENT_DISPATCHER =
+            new PropertyDescriptor<>("eventdispatcher", javafx.scene.Node.class, javafx.scene.Node::eventDispatcherProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Boolean> FOCUSED =
+            new PropertyDescriptor<>("focused", javafx.scene.Node.class, javafx.scene.Node::focusedProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Boolean> FOCUS_TRAVERSABLE =
+            new PropertyDescriptor<>("focustraversable", javafx.scene.Node.class, javafx.scene.Node::focusTraversableProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Boolean> HOVER =
+            new PropertyDescriptor<>("hover", javafx.scene.Node.class, javafx.scene.Node::hoverProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.String> ID =
+            new PropertyDescriptor<>("id", javafx.scene.Node.class, javafx.scene.Node::idProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.scene.input.InputMethodRequests> INPUT_METHOD_REQUESTS =
+            new PropertyDescriptor<>("inputmethodrequests", javafx.scene.Node.class, javafx.scene.Node::inputMethodRequestsProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.geometry.Bounds> LAYOUT_BOUNDS =
+            new PropertyDescriptor<>("layoutbounds", javafx.scene.Node.class, javafx.scene.Node::layoutBoundsProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Number> LAYOUT_X =
+            new PropertyDescriptor<>("layoutx", javafx.scene.Node.class, javafx.scene.Node::layoutXProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Number> LAYOUT_Y =
+            new PropertyDescriptor<>("layouty", javafx.scene.Node.class, javafx.scene.Node::layoutYProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.scene.transform.Transform> LOCAL_TO_PARENT_TRANSFORM =
+            new PropertyDescriptor<>("localtoparenttransform", javafx.scene.Node.class, javafx.scene.Node::localToParentTransformProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.scene.transform.Transform> LOCAL_TO_SCENE_TRANSFORM =
+            new PropertyDescriptor<>("localtoscenetransform", javafx.scene.Node.class, javafx.scene.Node::localToSceneTransformProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Boolean> MANAGED =
+            new PropertyDescriptor<>("managed", javafx.scene.Node.class, javafx.scene.Node::managedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Boolean> MOUSE_TRANSPARENT =
+            new PropertyDescriptor<>("mousetransparent", javafx.scene.Node.class, javafx.scene.Node::mouseTransparentProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.geometry.NodeOrientation> NODE_ORIENTATION =
+            new PropertyDescriptor<>("nodeorientation", javafx.scene.Node.class, javafx.scene.Node::nodeOrientationProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.ContextMenuEvent>> ON_CONTEXT_MENU_REQUESTED =
+            new PropertyDescriptor<>("oncontextmenurequested", javafx.scene.Node.class, javafx.scene.Node::onContextMenuRequestedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.MouseEvent>> ON_DRAG_DETECTED =
+            new PropertyDescriptor<>("ondragdetected", javafx.scene.Node.class, javafx.scene.Node::onDragDetectedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.DragEvent>> ON_DRAG_DONE =
+            new PropertyDescriptor<>("ondragdone", javafx.scene.Node.class, javafx.scene.Node::onDragDoneProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.DragEvent>> ON_DRAG_DROPPED =
+            new PropertyDescriptor<>("ondragdropped", javafx.scene.Node.class, javafx.scene.Node::onDragDroppedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.DragEvent>> ON_DRAG_ENTERED =
+            new PropertyDescriptor<>("ondragentered", javafx.scene.Node.class, javafx.scene.Node::onDragEnteredProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.DragEvent>> ON_DRAG_EXITED =
+            new PropertyDescriptor<>("ondragexited", javafx.scene.Node.class, javafx.scene.Node::onDragExitedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.DragEvent>> ON_DRAG_OVER =
+            new PropertyDescriptor<>("ondragover", javafx.scene.Node.class, javafx.scene.Node::onDragOverProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.InputMethodEvent>> ON_INPUT_METHOD_TEXT_CHANGED =
+            new PropertyDescriptor<>("oninputmethodtextchanged", javafx.scene.Node.class, javafx.scene.Node::onInputMethodTextChangedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.KeyEvent>> ON_KEY_PRESSED =
+            new PropertyDescriptor<>("onkeypressed", javafx.scene.Node.class, javafx.scene.Node::onKeyPressedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.KeyEvent>> ON_KEY_RELEASED =
+            new PropertyDescriptor<>("onkeyreleased", javafx.scene.Node.class, javafx.scene.Node::onKeyReleasedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.KeyEvent>> ON_KEY_TYPED =
+            new PropertyDescriptor<>("onkeytyped", javafx.scene.Node.class, javafx.scene.Node::onKeyTypedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.MouseEvent>> ON_MOUSE_CLICKED =
+            new PropertyDescriptor<>("onmouseclicked", javafx.scene.Node.class, javafx.scene.Node::onMouseClickedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.MouseDragEvent>> ON_MOUSE_DRAG_ENTERED =
+            new PropertyDescriptor<>("onmousedragentered", javafx.scene.Node.class, javafx.scene.Node::onMouseDragEnteredProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.MouseDragEvent>> ON_MOUSE_DRAG_EXITED =
+            new PropertyDescriptor<>("onmousedragexited", javafx.scene.Node.class, javafx.scene.Node::onMouseDragExitedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.MouseEvent>> ON_MOUSE_DRAGGED =
+            new PropertyDescriptor<>("onmousedragged", javafx.scene.Node.class, javafx.scene.Node::onMouseDraggedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.MouseDragEvent>> ON_MOUSE_DRAG_OVER =
+            new PropertyDescriptor<>("onmousedragover", javafx.scene.Node.class, javafx.scene.Node::onMouseDragOverProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.MouseDragEvent>> ON_MOUSE_DRAG_RELEASED =
+            new PropertyDescriptor<>("onmousedragreleased", javafx.scene.Node.class, javafx.scene.Node::onMouseDragReleasedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.MouseEvent>> ON_MOUSE_ENTERED =
+            new PropertyDescriptor<>("onmouseentered", javafx.scene.Node.class, javafx.scene.Node::onMouseEnteredProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.MouseEvent>> ON_MOUSE_EXITED =
+            new PropertyDescriptor<>("onmouseexited", javafx.scene.Node.class, javafx.scene.Node::onMouseExitedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.MouseEvent>> ON_MOUSE_MOVED =
+            new PropertyDescriptor<>("onmousemoved", javafx.scene.Node.class, javafx.scene.Node::onMouseMovedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.MouseEvent>> ON_MOUSE_PRESSED =
+            new PropertyDescriptor<>("onmousepressed", javafx.scene.Node.class, javafx.scene.Node::onMousePressedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.MouseEvent>> ON_MOUSE_RELEASED =
+            new PropertyDescriptor<>("onmousereleased", javafx.scene.Node.class, javafx.scene.Node::onMouseReleasedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.RotateEvent>> ON_ROTATE =
+            new PropertyDescriptor<>("onrotate", javafx.scene.Node.class, javafx.scene.Node::onRotateProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.RotateEvent>> ON_ROTATION_FINISHED =
+            new PropertyDescriptor<>("onrotationfinished", javafx.scene.Node.class, javafx.scene.Node::onRotationFinishedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.RotateEvent>> ON_ROTATION_STARTED =
+            new PropertyDescriptor<>("onrotationstarted", javafx.scene.Node.class, javafx.scene.Node::onRotationStartedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.ScrollEvent>> ON_SCROLL =
+            new PropertyDescriptor<>("onscroll", javafx.scene.Node.class, javafx.scene.Node::onScrollProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.ScrollEvent>> ON_SCROLL_FINISHED =
+            new PropertyDescriptor<>("onscrollfinished", javafx.scene.Node.class, javafx.scene.Node::onScrollFinishedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.ScrollEvent>> ON_SCROLL_STARTED =
+            new PropertyDescriptor<>("onscrollstarted", javafx.scene.Node.class, javafx.scene.Node::onScrollStartedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.SwipeEvent>> ON_SWIPE_DOWN =
+            new PropertyDescriptor<>("onswipedown", javafx.scene.Node.class, javafx.scene.Node::onSwipeDownProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.SwipeEvent>> ON_SWIPE_LEFT =
+            new PropertyDescriptor<>("onswipeleft", javafx.scene.Node.class, javafx.scene.Node::onSwipeLeftProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.SwipeEvent>> ON_SWIPE_RIGHT =
+            new PropertyDescriptor<>("onswiperight", javafx.scene.Node.class, javafx.scene.Node::onSwipeRightProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.SwipeEvent>> ON_SWIPE_UP =
+            new PropertyDescriptor<>("onswipeup", javafx.scene.Node.class, javafx.scene.Node::onSwipeUpProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.TouchEvent>> ON_TOUCH_MOVED =
+            new PropertyDescriptor<>("ontouchmoved", javafx.scene.Node.class, javafx.scene.Node::onTouchMovedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.TouchEvent>> ON_TOUCH_PRESSED =
+            new PropertyDescriptor<>("ontouchpressed", javafx.scene.Node.class, javafx.scene.Node::onTouchPressedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.TouchEvent>> ON_TOUCH_RELEASED =
+            new PropertyDescriptor<>("ontouchreleased", javafx.scene.Node.class, javafx.scene.Node::onTouchReleasedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.TouchEvent>> ON_TOUCH_STATIONARY =
+            new PropertyDescriptor<>("ontouchstationary", javafx.scene.Node.class, javafx.scene.Node::onTouchStationaryProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.ZoomEvent>> ON_ZOOM =
+            new PropertyDescriptor<>("onzoom", javafx.scene.Node.class, javafx.scene.Node::onZoomProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.ZoomEvent>> ON_ZOOM_FINISHED =
+            new PropertyDescriptor<>("onzoomfinished", javafx.scene.Node.class, javafx.scene.Node::onZoomFinishedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.event.EventHandler<? super javafx.scene.input.ZoomEvent>> ON_ZOOM_STARTED =
+            new PropertyDescriptor<>("onzoomstarted", javafx.scene.Node.class, javafx.scene.Node::onZoomStartedProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Number> OPACITY =
+            new PropertyDescriptor<>("opacity", javafx.scene.Node.class, javafx.scene.Node::opacityProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.scene.Parent> PARENT =
+            new PropertyDescriptor<>("parent", javafx.scene.Node.class, javafx.scene.Node::parentProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Boolean> PICK_ON_BOUNDS =
+            new PropertyDescriptor<>("pickonbounds", javafx.scene.Node.class, javafx.scene.Node::pickOnBoundsProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Boolean> PRESSED =
+            new PropertyDescriptor<>("pressed", javafx.scene.Node.class, javafx.scene.Node::pressedProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Number> ROTATE =
+            new PropertyDescriptor<>("rotate", javafx.scene.Node.class, javafx.scene.Node::rotateProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.geometry.Point3D> ROTATION_AXIS =
+            new PropertyDescriptor<>("rotationaxis", javafx.scene.Node.class, javafx.scene.Node::rotationAxisProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Number> SCALE_X =
+            new PropertyDescriptor<>("scalex", javafx.scene.Node.class, javafx.scene.Node::scaleXProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Number> SCALE_Y =
+            new PropertyDescriptor<>("scaley", javafx.scene.Node.class, javafx.scene.Node::scaleYProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Number> SCALE_Z =
+            new PropertyDescriptor<>("scalez", javafx.scene.Node.class, javafx.scene.Node::scaleZProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, javafx.scene.Scene> SCENE =
+            new PropertyDescriptor<>("scene", javafx.scene.Node.class, javafx.scene.Node::sceneProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.String> STYLE =
+            new PropertyDescriptor<>("style", javafx.scene.Node.class, javafx.scene.Node::styleProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Number> TRANSLATE_X =
+            new PropertyDescriptor<>("translatex", javafx.scene.Node.class, javafx.scene.Node::translateXProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Number> TRANSLATE_Y =
+            new PropertyDescriptor<>("translatey", javafx.scene.Node.class, javafx.scene.Node::translateYProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Number> TRANSLATE_Z =
+            new PropertyDescriptor<>("translatez", javafx.scene.Node.class, javafx.scene.Node::translateZProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Number> VIEW_ORDER =
+            new PropertyDescriptor<>("vieworder", javafx.scene.Node.class, javafx.scene.Node::viewOrderProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.Node, java.lang.Boolean> VISIBLE =
+            new PropertyDescriptor<>("visible", javafx.scene.Node.class, javafx.scene.Node::visibleProperty, true);
+
+        private Node() {}
+
+    }
+
+    public static final class Parent {
+
+        public static final PropertyDescriptor<javafx.scene.Parent, java.lang.Boolean> NEEDS_LAYOUT =
+            new PropertyDescriptor<>("needslayout", javafx.scene.Parent.class, javafx.scene.Parent::needsLayoutProperty, false);
+
+        private Parent() {}
+
+    }
+
+    public static final class ProgressIndicator {
+
+        public static final PropertyDescriptor<javafx.scene.control.ProgressIndicator, java.lang.Boolean> INDETERMINATE =
+            new PropertyDescriptor<>("indeterminate", javafx.scene.control.ProgressIndicator.class, javafx.scene.control.ProgressIndicator::indeterminateProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.control.ProgressIndicator, java.lang.Number> PROGRESS =
+            new PropertyDescriptor<>("progress", javafx.scene.control.ProgressIndicator.class, javafx.scene.control.ProgressIndicator::progressProperty, true);
+
+        private ProgressIndicator() {}
+
+    }
+
+    public static final class Region {
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, javafx.scene.layout.Background> BACKGROUND =
+            new PropertyDescriptor<>("background", javafx.scene.layout.Region.class, javafx.scene.layout.Region::backgroundProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, javafx.scene.layout.Border> BORDER =
+            new PropertyDescriptor<>("border", javafx.scene.layout.Region.class, javafx.scene.layout.Region::borderProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, java.lang.Boolean> CACHE_SHAPE =
+            new PropertyDescriptor<>("cacheshape", javafx.scene.layout.Region.class, javafx.scene.layout.Region::cacheShapeProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, java.lang.Boolean> CENTER_SHAPE =
+            new PropertyDescriptor<>("centershape", javafx.scene.layout.Region.class, javafx.scene.layout.Region::centerShapeProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, java.lang.Number> HEIGHT =
+            new PropertyDescriptor<>("height", javafx.scene.layout.Region.class, javafx.scene.layout.Region::heightProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, javafx.geometry.Insets> INSETS =
+            new PropertyDescriptor<>("insets", javafx.scene.layout.Region.class, javafx.scene.layout.Region::insetsProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, java.lang.Number> MAX_HEIGHT =
+            new PropertyDescriptor<>("maxheight", javafx.scene.layout.Region.class, javafx.scene.layout.Region::maxHeightProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, java.lang.Number> MAX_WIDTH =
+            new PropertyDescriptor<>("maxwidth", javafx.scene.layout.Region.class, javafx.scene.layout.Region::maxWidthProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, java.lang.Number> MIN_HEIGHT =
+            new PropertyDescriptor<>("minheight", javafx.scene.layout.Region.class, javafx.scene.layout.Region::minHeightProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, java.lang.Number> MIN_WIDTH =
+            new PropertyDescriptor<>("minwidth", javafx.scene.layout.Region.class, javafx.scene.layout.Region::minWidthProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, javafx.geometry.Insets> OPAQUE_INSETS =
+            new PropertyDescriptor<>("opaqueinsets", javafx.scene.layout.Region.class, javafx.scene.layout.Region::opaqueInsetsProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, javafx.geometry.Insets> PADDING =
+            new PropertyDescriptor<>("padding", javafx.scene.layout.Region.class, javafx.scene.layout.Region::paddingProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, java.lang.Number> PREF_HEIGHT =
+            new PropertyDescriptor<>("prefheight", javafx.scene.layout.Region.class, javafx.scene.layout.Region::prefHeightProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, java.lang.Number> PREF_WIDTH =
+            new PropertyDescriptor<>("prefwidth", javafx.scene.layout.Region.class, javafx.scene.layout.Region::prefWidthProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, java.lang.Boolean> SCALE_SHAPE =
+            new PropertyDescriptor<>("scaleshape", javafx.scene.layout.Region.class, javafx.scene.layout.Region::scaleShapeProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, javafx.scene.shape.Shape> SHAPE =
+            new PropertyDescriptor<>("shape", javafx.scene.layout.Region.class, javafx.scene.layout.Region::shapeProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, java.lang.Boolean> SNAP_TO_PIXEL =
+            new PropertyDescriptor<>("snaptopixel", javafx.scene.layout.Region.class, javafx.scene.layout.Region::snapToPixelProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.Region, java.lang.Number> WIDTH =
+            new PropertyDescriptor<>("width", javafx.scene.layout.Region.class, javafx.scene.layout.Region::widthProperty, false);
+
+        private Region() {}
+
+    }
+
+    public static final class ScrollPane {
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, javafx.scene.Node> CONTENT =
+            new PropertyDescriptor<>("content", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::contentProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, java.lang.Boolean> FIT_TO_HEIGHT =
+            new PropertyDescriptor<>("fittoheight", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::fitToHeightProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, java.lang.Boolean> FIT_TO_WIDTH =
+            new PropertyDescriptor<>("fittowidth", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::fitToWidthProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, javafx.scene.control.ScrollPane.ScrollBarPolicy> HBAR_POLICY =
+            new PropertyDescriptor<>("hbarpolicy", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::hbarPolicyProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, java.lang.Number> HMAX =
+            new PropertyDescriptor<>("hmax", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::hmaxProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, java.lang.Number> HMIN =
+            new PropertyDescriptor<>("hmin", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::hminProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, java.lang.Number> HVALUE =
+            new PropertyDescriptor<>("hvalue", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::hvalueProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, java.lang.Number> MIN_VIEWPORT_HEIGHT =
+            new PropertyDescriptor<>("minviewportheight", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::minViewportHeightProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, java.lang.Number> MIN_VIEWPORT_WIDTH =
+            new PropertyDescriptor<>("minviewportwidth", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::minViewportWidthProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, java.lang.Boolean> PANNABLE =
+            new PropertyDescriptor<>("pannable", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::pannableProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, java.lang.Number> PREF_VIEWPORT_HEIGHT =
+            new PropertyDescriptor<>("prefviewportheight", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::prefViewportHeightProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, java.lang.Number> PREF_VIEWPORT_WIDTH =
+            new PropertyDescriptor<>("prefviewportwidth", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::prefViewportWidthProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, javafx.scene.control.ScrollPane.ScrollBarPolicy> VBAR_POLICY =
+            new PropertyDescriptor<>("vbarpolicy", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::vbarPolicyProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, javafx.geometry.Bounds> VIEWPORT_BOUNDS =
+            new PropertyDescriptor<>("viewportbounds", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::viewportBoundsProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, java.lang.Number> VMAX =
+            new PropertyDescriptor<>("vmax", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::vmaxProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, java.lang.Number> VMIN =
+            new PropertyDescriptor<>("vmin", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::vminProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.ScrollPane, java.lang.Number> VVALUE =
+            new PropertyDescriptor<>("vvalue", javafx.scene.control.ScrollPane.class, javafx.scene.control.ScrollPane::vvalueProperty, true);
+
+        private ScrollPane() {}
+
+    }
+
+    public static final class Separator {
+
+        public static final PropertyDescriptor<javafx.scene.control.Separator, javafx.geometry.HPos> HALIGNMENT =
+            new PropertyDescriptor<>("halignment", javafx.scene.control.Separator.class, javafx.scene.control.Separator::halignmentProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Separator, javafx.geometry.Orientation> ORIENTATION =
+            new PropertyDescriptor<>("orientation", javafx.scene.control.Separator.class, javafx.scene.control.Separator::orientationProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.Separator, javafx.geometry.VPos> VALIGNMENT =
+            new PropertyDescriptor<>("valignment", javafx.scene.control.Separator.class, javafx.scene.control.Separator::valignmentProperty, true);
+
+        private Separator() {}
+
+    }
+
+    public static final class Shape {
+
+        public static final PropertyDescriptor<javafx.scene.shape.Shape, javafx.scene.paint.Paint> FILL =
+            new PropertyDescriptor<>("fill", javafx.scene.shape.Shape.class, javafx.scene.shape.Shape::fillProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.shape.Shape, java.lang.Boolean> SMOOTH =
+            new PropertyDescriptor<>("smooth", javafx.scene.shape.Shape.class, javafx.scene.shape.Shape::smoothProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.shape.Shape, javafx.scene.paint.Paint> STROKE =
+            new PropertyDescriptor<>("stroke", javafx.scene.shape.Shape.class, javafx.scene.shape.Shape::strokeProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.shape.Shape, java.lang.Number> STROKE_DASH_OFFSET =
+            new PropertyDescriptor<>("strokedashoffset", javafx.scene.shape.Shape.class, javafx.scene.shape.Shape::strokeDashOffsetProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.shape.Shape, javafx.scene.shape.StrokeLineCap> STROKE_LINE_CAP =
+            new PropertyDescriptor<>("strokelinecap", javafx.scene.shape.Shape.class, javafx.scene.shape.Shape::strokeLineCapProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.shape.Shape, javafx.scene.shape.StrokeLineJoin> STROKE_LINE_JOIN =
+            new PropertyDescriptor<>("strokelinejoin", javafx.scene.shape.Shape.class, javafx.scene.shape.Shape::strokeLineJoinProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.shape.Shape, java.lang.Number> STROKE_MITER_LIMIT =
+            new PropertyDescriptor<>("strokemiterlimit", javafx.scene.shape.Shape.class, javafx.scene.shape.Shape::strokeMiterLimitProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.shape.Shape, javafx.scene.shape.StrokeType> STROKE_TYPE =
+            new PropertyDescriptor<>("stroketype", javafx.scene.shape.Shape.class, javafx.scene.shape.Shape::strokeTypeProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.shape.Shape, java.lang.Number> STROKE_WIDTH =
+            new PropertyDescriptor<>("strokewidth", javafx.scene.shape.Shape.class, javafx.scene.shape.Shape::strokeWidthProperty, true);
+
+        private Shape() {}
+
+    }
+
+    public static final class TabPane {
+
+        public static final PropertyDescriptor<javafx.scene.control.TabPane, java.lang.Boolean> ROTATE_GRAPHIC =
+            new PropertyDescriptor<>("rotategraphic", javafx.scene.control.TabPane.class, javafx.scene.control.TabPane::rotateGraphicProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TabPane, javafx.scene.control.SingleSelectionModel<javafx.scene.control.Tab>> SELECTION_MODEL =
+            new PropertyDescriptor<>("selectionmodel", javafx.scene.control.TabPane.class, javafx.scene.control.TabPane::selectionModelProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TabPane, javafx.geometry.Side> SIDE =
+            new PropertyDescriptor<>("side", javafx.scene.control.TabPane.class, javafx.scene.control.TabPane::sideProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TabPane, javafx.scene.control.TabPane.TabClosingPolicy> TAB_CLOSING_POLICY =
+            new PropertyDescriptor<>("tabclosingpolicy", javafx.scene.control.TabPane.class, javafx.scene.control.TabPane::tabClosingPolicyProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TabPane, javafx.scene.control.TabPane.TabDragPolicy> TAB_DRAG_POLICY =
+            new PropertyDescriptor<>("tabdragpolicy", javafx.scene.control.TabPane.class, javafx.scene.control.TabPane::tabDragPolicyProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TabPane, java.lang.Number> TAB_MAX_HEIGHT =
+            new PropertyDescriptor<>("tabmaxheight", javafx.scene.control.TabPane.class, javafx.scene.control.TabPane::tabMaxHeightProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TabPane, java.lang.Number> TAB_MAX_WIDTH =
+            new PropertyDescriptor<>("tabmaxwidth", javafx.scene.control.TabPane.class, javafx.scene.control.TabPane::tabMaxWidthProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TabPane, java.lang.Number> TAB_MIN_HEIGHT =
+            new PropertyDescriptor<>("tabminheight", javafx.scene.control.TabPane.class, javafx.scene.control.TabPane::tabMinHeightProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TabPane, java.lang.Number> TAB_MIN_WIDTH =
+            new PropertyDescriptor<>("tabminwidth", javafx.scene.control.TabPane.class, javafx.scene.control.TabPane::tabMinWidthProperty, true);
+
+        private TabPane() {}
+
+    }
+
+    public static final class Text {
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, java.lang.Number> BASELINE_OFFSET =
+            new PropertyDescriptor<>("baselineoffset", javafx.scene.text.Text.class, javafx.scene.text.Text::baselineOffsetProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, javafx.scene.text.TextBoundsType> BOUNDS_TYPE =
+            new PropertyDescriptor<>("boundstype", javafx.scene.text.Text.class, javafx.scene.text.Text::boundsTypeProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, java.lang.Boolean> CARET_BIAS =
+            new PropertyDescriptor<>("caretbias", javafx.scene.text.Text.class, javafx.scene.text.Text::caretBiasProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, java.lang.Number> CARET_POSITION =
+            new PropertyDescriptor<>("caretposition", javafx.scene.text.Text.class, javafx.scene.text.Text::caretPositionProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, javafx.scene.shape.PathElement[]> CARET_SHAPE =
+            new PropertyDescriptor<>("caretshape", javafx.scene.text.Text.class, javafx.scene.text.Text::caretShapeProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, javafx.scene.text.Font> FONT =
+            new PropertyDescriptor<>("font", javafx.scene.text.Text.class, javafx.scene.text.Text::fontProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, javafx.scene.text.FontSmoothingType> FONT_SMOOTHING_TYPE =
+            new PropertyDescriptor<>("fontsmoothingtype", javafx.scene.text.Text.class, javafx.scene.text.Text::fontSmoothingTypeProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, java.lang.Number> LINE_SPACING =
+            new PropertyDescriptor<>("linespacing", javafx.scene.text.Text.class, javafx.scene.text.Text::lineSpacingProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, java.lang.Number> SELECTION_END =
+            new PropertyDescriptor<>("selectionend", javafx.scene.text.Text.class, javafx.scene.text.Text::selectionEndProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, javafx.scene.paint.Paint> SELECTION_FILL =
+            new PropertyDescriptor<>("selectionfill", javafx.scene.text.Text.class, javafx.scene.text.Text::selectionFillProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, javafx.scene.shape.PathElement[]> SELECTION_SHAPE =
+            new PropertyDescriptor<>("selectionshape", javafx.scene.text.Text.class, javafx.scene.text.Text::selectionShapeProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, java.lang.Number> SELECTION_START =
+            new PropertyDescriptor<>("selectionstart", javafx.scene.text.Text.class, javafx.scene.text.Text::selectionStartProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, java.lang.Boolean> STRIKETHROUGH =
+            new PropertyDescriptor<>("strikethrough", javafx.scene.text.Text.class, javafx.scene.text.Text::strikethroughProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, java.lang.Number> TAB_SIZE =
+            new PropertyDescriptor<>("tabsize", javafx.scene.text.Text.class, javafx.scene.text.Text::tabSizeProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, java.lang.String> TEXT =
+            new PropertyDescriptor<>("text", javafx.scene.text.Text.class, javafx.scene.text.Text::textProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, javafx.scene.text.TextAlignment> TEXT_ALIGNMENT =
+            new PropertyDescriptor<>("textalignment", javafx.scene.text.Text.class, javafx.scene.text.Text::textAlignmentProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, javafx.geometry.VPos> TEXT_ORIGIN =
+            new PropertyDescriptor<>("textorigin", javafx.scene.text.Text.class, javafx.scene.text.Text::textOriginProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, java.lang.Boolean> UNDERLINE =
+            new PropertyDescriptor<>("underline", javafx.scene.text.Text.class, javafx.scene.text.Text::underlineProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, java.lang.Number> WRAPPING_WIDTH =
+            new PropertyDescriptor<>("wrappingwidth", javafx.scene.text.Text.class, javafx.scene.text.Text::wrappingWidthProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, java.lang.Number> X =
+            new PropertyDescriptor<>("x", javafx.scene.text.Text.class, javafx.scene.text.Text::xProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.text.Text, java.lang.Number> Y =
+            new PropertyDescriptor<>("y", javafx.scene.text.Text.class, javafx.scene.text.Text::yProperty, true);
+
+        private Text() {}
+
+    }
+
+    public static final class TextArea {
+
+        public static final PropertyDescriptor<javafx.scene.control.TextArea, java.lang.Number> PREF_COLUMN_COUNT =
+            new PropertyDescriptor<>("prefcolumncount", javafx.scene.control.TextArea.class, javafx.scene.control.TextArea::prefColumnCountProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextArea, java.lang.Number> PREF_ROW_COUNT =
+            new PropertyDescriptor<>("prefrowcount", javafx.scene.control.TextArea.class, javafx.scene.control.TextArea::prefRowCountProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextArea, java.lang.Number> SCROLL_LEFT =
+            new PropertyDescriptor<>("scrollleft", javafx.scene.control.TextArea.class, javafx.scene.control.TextArea::scrollLeftProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextArea, java.lang.Number> SCROLL_TOP =
+            new PropertyDescriptor<>("scrolltop", javafx.scene.control.TextArea.class, javafx.scene.control.TextArea::scrollTopProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextArea, java.lang.Boolean> WRAP_TEXT =
+            new PropertyDescriptor<>("wraptext", javafx.scene.control.TextArea.class, javafx.scene.control.TextArea::wrapTextProperty, true);
+
+        private TextArea() {}
+
+    }
+
+    public static final class TextField {
+
+        public static final PropertyDescriptor<javafx.scene.control.TextField, javafx.geometry.Pos> ALIGNMENT =
+            new PropertyDescriptor<>("alignment", javafx.scene.control.TextField.class, javafx.scene.control.TextField::alignmentProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextField, javafx.event.EventHandler<javafx.event.ActionEvent>> ON_ACTION =
+            new PropertyDescriptor<>("onaction", javafx.scene.control.TextField.class, javafx.scene.control.TextField::onActionProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextField, java.lang.Number> PREF_COLUMN_COUNT =
+            new PropertyDescriptor<>("prefcolumncount", javafx.scene.control.TextField.class, javafx.scene.control.TextField::prefColumnCountProperty, true);
+
+        private TextField() {}
+
+    }
+
+    public static final class TextInputControl {
+
+        public static final PropertyDescriptor<javafx.scene.control.TextInputControl, java.lang.Number> ANCHOR =
+            new PropertyDescriptor<>("anchor", javafx.scene.control.TextInputControl.class, javafx.scene.control.TextInputControl::anchorProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextInputControl, java.lang.Number> CARET_POSITION =
+            new PropertyDescriptor<>("caretposition", javafx.scene.control.TextInputControl.class, javafx.scene.control.TextInputControl::caretPositionProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextInputControl, java.lang.Boolean> EDITABLE =
+            new PropertyDescriptor<>("editable", javafx.scene.control.TextInputControl.class, javafx.scene.control.TextInputControl::editableProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextInputControl, javafx.scene.text.Font> FONT =
+            new PropertyDescriptor<>("font", javafx.scene.control.TextInputControl.class, javafx.scene.control.TextInputControl::fontProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextInputControl, java.lang.Number> LENGTH =
+            new PropertyDescriptor<>("length", javafx.scene.control.TextInputControl.class, javafx.scene.control.TextInputControl::lengthProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextInputControl, java.lang.String> PROMPT_TEXT =
+            new PropertyDescriptor<>("prompttext", javafx.scene.control.TextInputControl.class, javafx.scene.control.TextInputControl::promptTextProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextInputControl, java.lang.Boolean> REDOABLE =
+            new PropertyDescriptor<>("redoable", javafx.scene.control.TextInputControl.class, javafx.scene.control.TextInputControl::redoableProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextInputControl, java.lang.String> SELECTED_TEXT =
+            new PropertyDescriptor<>("selectedtext", javafx.scene.control.TextInputControl.class, javafx.scene.control.TextInputControl::selectedTextProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextInputControl, javafx.scene.control.IndexRange> SELECTION =
+            new PropertyDescriptor<>("selection", javafx.scene.control.TextInputControl.class, javafx.scene.control.TextInputControl::selectionProperty, false);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextInputControl, java.lang.String> TEXT =
+            new PropertyDescriptor<>("text", javafx.scene.control.TextInputControl.class, javafx.scene.control.TextInputControl::textProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextInputControl, javafx.scene.control.TextFormatter<?>> TEXT_FORMATTER =
+            new PropertyDescriptor<>("textformatter", javafx.scene.control.TextInputControl.class, javafx.scene.control.TextInputControl::textFormatterProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TextInputControl, java.lang.Boolean> UNDOABLE =
+            new PropertyDescriptor<>("undoable", javafx.scene.control.TextInputControl.class, javafx.scene.control.TextInputControl::undoableProperty, false);
+
+        private TextInputControl() {}
+
+    }
+
+    public static final class TreeView {
+
+        public static final PropertyDescriptor<javafx.scene.control.TreeView, java.lang.Object> CELL_FACTORY =
+            new PropertyDescriptor<>("cellfactory", javafx.scene.control.TreeView.class, node -> cast(node.cellFactoryProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TreeView, java.lang.Object> EDITABLE =
+            new PropertyDescriptor<>("editable", javafx.scene.control.TreeView.class, node -> cast(node.editableProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TreeView, java.lang.Object> EDITING_ITEM =
+            new PropertyDescriptor<>("editingitem", javafx.scene.control.TreeView.class, node -> cast(node.editingItemProperty()), false);
+
+        public static final PropertyDescriptor<javafx.scene.control.TreeView, java.lang.Object> EXPANDED_ITEM_COUNT =
+            new PropertyDescriptor<>("expandeditemcount", javafx.scene.control.TreeView.class, node -> cast(node.expandedItemCountProperty()), false);
+
+        public static final PropertyDescriptor<javafx.scene.control.TreeView, java.lang.Object> FIXED_CELL_SIZE =
+            new PropertyDescriptor<>("fixedcellsize", javafx.scene.control.TreeView.class, node -> cast(node.fixedCellSizeProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TreeView, java.lang.Object> FOCUS_MODEL =
+            new PropertyDescriptor<>("focusmodel", javafx.scene.control.TreeView.class, node -> cast(node.focusModelProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TreeView, java.lang.Object> ON_EDIT_CANCEL =
+            new PropertyDescriptor<>("oneditcancel", javafx.scene.control.TreeView.class, node -> cast(node.onEditCancelProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TreeView, java.lang.Object> ON_EDIT_COMMIT =
+            new PropertyDescriptor<>("oneditcommit", javafx.scene.control.TreeView.class, node -> cast(node.onEditCommitProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TreeView, java.lang.Object> ON_EDIT_START =
+            new PropertyDescriptor<>("oneditstart", javafx.scene.control.TreeView.class, node -> cast(node.onEditStartProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TreeView, java.lang.Object> ON_SCROLL_TO =
+            new PropertyDescriptor<>("onscrollto", javafx.scene.control.TreeView.class, node -> cast(node.onScrollToProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TreeView, java.lang.Object> ROOT =
+            new PropertyDescriptor<>("root", javafx.scene.control.TreeView.class, node -> cast(node.rootProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TreeView, java.lang.Object> SELECTION_MODEL =
+            new PropertyDescriptor<>("selectionmodel", javafx.scene.control.TreeView.class, node -> cast(node.selectionModelProperty()), true);
+
+        public static final PropertyDescriptor<javafx.scene.control.TreeView, java.lang.Object> SHOW_ROOT =
+            new PropertyDescriptor<>("showroot", javafx.scene.control.TreeView.class, node -> cast(node.showRootProperty()), true);
+
+        private TreeView() {}
+
+    }
+
+    public static final class VBox {
+
+        public static final PropertyDescriptor<javafx.scene.layout.VBox, javafx.geometry.Pos> ALIGNMENT =
+            new PropertyDescriptor<>("alignment", javafx.scene.layout.VBox.class, javafx.scene.layout.VBox::alignmentProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.VBox, java.lang.Boolean> FILL_WIDTH =
+            new PropertyDescriptor<>("fillwidth", javafx.scene.layout.VBox.class, javafx.scene.layout.VBox::fillWidthProperty, true);
+
+        public static final PropertyDescriptor<javafx.scene.layout.VBox, java.lang.Number> SPACING =
+            new PropertyDescriptor<>("spacing", javafx.scene.layout.VBox.class, javafx.scene.layout.VBox::spacingProperty, true);
+
+        private VBox() {}
+
+    }
+
+    /**
+     * @param nodeClass the class of the node
+     * @param property  the lower case name of the property
+     *
+     * @return the most specific descriptor of the property or {@code null} if it is unknown
+     */
+    @Nullable
+    public static PropertyDescriptor<?, ?> find(@NotNull Class<?> nodeClass, @NotNull String property) {
+        switch (property) {
+            case "accessiblehelp":
+                return PropertyDescriptor.select(nodeClass, Node.ACCESSIBLE_HELP);
+            case "accessiblerole":
+                return PropertyDescriptor.select(nodeClass, Node.ACCESSIBLE_ROLE);
+            case "accessibleroledescription":
+                return PropertyDescriptor.select(nodeClass, Node.ACCESSIBLE_ROLE_DESCRIPTION);
+            case "accessibletext":
+                return PropertyDescriptor.select(nodeClass, Node.ACCESSIBLE_TEXT);
+            case "alignment":
+                return PropertyDescriptor.select(nodeClass, TextField.ALIGNMENT, GridPane.ALIGNMENT, HBox.ALIGNMENT, Labeled.ALIGNMENT, VBox.ALIGNMENT);
+            case "anchor":
+                return PropertyDescriptor.select(nodeClass, TextInputControl.ANCHOR);
+            case "armed":
+                return PropertyDescriptor.select(nodeClass, ButtonBase.ARMED);
+            case "background":
+                return PropertyDescriptor.select(nodeClass, Region.BACKGROUND);
+            case "baselineoffset":
+                return PropertyDescriptor.select(nodeClass, Text.BASELINE_OFFSET);
+            case "blendmode":
+                return PropertyDescriptor.select(nodeClass, Node.BLEND_MODE);
+            case "border":
+                return PropertyDescriptor.select(nodeClass, Region.BORDER);
+            case "bottom":
+                return PropertyDescriptor.select(nodeClass, BorderPane.BOTTOM);
+            case "boundsinlocal":
+                return PropertyDescriptor.select(nodeClass, Node.BOUNDS_IN_LOCAL);
+            case "boundsinparent":
+                return PropertyDescriptor.select(nodeClass, Node.BOUNDS_IN_PARENT);
+            case "boundstype":
+                return PropertyDescriptor.select(nodeClass, Text.BOUNDS_TYPE);
+            case "cache":
+                return PropertyDescriptor.select(nodeClass, Node.CACHE);
+            case "cachehint":
+                return PropertyDescriptor.select(nodeClass, Node.CACHE_HINT);
+            case "cacheshape":
+                return PropertyDescriptor.select(nodeClass, Region.CACHE_SHAPE);
+            case "cancelbutton":
+                return PropertyDescriptor.select(nodeClass, Button.CANCEL_BUTTON);
+            case "caretbias":
+                return PropertyDescriptor.select(nodeClass, Text.CARET_BIAS);
+            case "caretposition":
+                return PropertyDescriptor.select(nodeClass, TextInputControl.CARET_POSITION, Text.CARET_POSITION);
+            case "caretshape":
+                return PropertyDescriptor.select(nodeClass, Text.CARET_SHAPE);
+            case "cellfactory":
+                return PropertyDescriptor.select(nodeClass, ListView.CELL_FACTORY, TreeView.CELL_FACTORY);
+            case "center":
+                return PropertyDescriptor.select(nodeClass, BorderPane.CENTER);
+            case "centershape":
+                return PropertyDescriptor.select(nodeClass, Region.CENTER_SHAPE);
+            case "clip":
+                return PropertyDescriptor.select(nodeClass, Node.CLIP);
+            case "content":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.CONTENT);
+            case "contentdisplay":
+                return PropertyDescriptor.select(nodeClass, Labeled.CONTENT_DISPLAY);
+            case "contextmenu":
+                return PropertyDescriptor.select(nodeClass, Control.CONTEXT_MENU);
+            case "converter":
+                return PropertyDescriptor.select(nodeClass, ChoiceBox.CONVERTER);
+            case "cursor":
+                return PropertyDescriptor.select(nodeClass, Node.CURSOR);
+            case "defaultbutton":
+                return PropertyDescriptor.select(nodeClass, Button.DEFAULT_BUTTON);
+            case "depthtest":
+                return PropertyDescriptor.select(nodeClass, Node.DEPTH_TEST);
+            case "disable":
+                return PropertyDescriptor.select(nodeClass, Node.DISABLE);
+            case "disabled":
+                return PropertyDescriptor.select(nodeClass, Node.DISABLED);
+            case "editable":
+                return PropertyDescriptor.select(nodeClass, ListView.EDITABLE, TextInputControl.EDITABLE, TreeView.EDITABLE);
+            case "editingindex":
+                return PropertyDescriptor.select(nodeClass, ListView.EDITING_INDEX);
+            case "editingitem":
+                return PropertyDescriptor.select(nodeClass, TreeView.EDITING_ITEM);
+            case "effect":
+                return PropertyDescriptor.select(nodeClass, Node.EFFECT);
+            case "effectivenodeorientation":
+                return PropertyDescriptor.select(nodeClass, Node.EFFECTIVE_NODE_ORIENTATION);
+            case "ellipsisstring":
+                return PropertyDescriptor.select(nodeClass, Labeled.ELLIPSIS_STRING);
+            case "eventdispatcher":
+                return PropertyDescriptor.select(nodeClass, Node.EVENT_DISPATCHER);
+            case "expandeditemcount":
+                return PropertyDescriptor.select(nodeClass, TreeView.EXPANDED_ITEM_COUNT);
+            case "fill":
+                return PropertyDescriptor.select(nodeClass, Shape.FILL);
+            case "fillheight":
+                return PropertyDescriptor.select(nodeClass, HBox.FILL_HEIGHT);
+            case "fillwidth":
+                return PropertyDescriptor.select(nodeClass, VBox.FILL_WIDTH);
+            case "fitheight":
+                return PropertyDescriptor.select(nodeClass, ImageView.FIT_HEIGHT);
+            case "fittoheight":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.FIT_TO_HEIGHT);
+            case "fittowidth":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.FIT_TO_WIDTH);
+            case "fitwidth":
+                return PropertyDescriptor.select(nodeClass, ImageView.FIT_WIDTH);
+            case "fixedcellsize":
+                return PropertyDescriptor.select(nodeClass, ListView.FIXED_CELL_SIZE, TreeView.FIXED_CELL_SIZE);
+            case "focused":
+                return PropertyDescriptor.select(nodeClass, Node.FOCUSED);
+            case "focusmodel":
+                return PropertyDescriptor.select(nodeClass, ListView.FOCUS_MODEL, TreeView.FOCUS_MODEL);
+            case "focustraversable":
+                return PropertyDescriptor.select(nodeClass, Node.FOCUS_TRAVERSABLE);
+            case "font":
+                return PropertyDescriptor.select(nodeClass, Labeled.FONT, TextInputControl.FONT, Text.FONT);
+            case "fontsmoothingtype":
+                return PropertyDescriptor.select(nodeClass, Text.FONT_SMOOTHING_TYPE);
+            case "graphic":
+                return PropertyDescriptor.select(nodeClass, Labeled.GRAPHIC);
+            case "graphictextgap":
+                return PropertyDescriptor.select(nodeClass, Labeled.GRAPHIC_TEXT_GAP);
+            case "gridlinesvisible":
+                return PropertyDescriptor.select(nodeClass, GridPane.GRID_LINES_VISIBLE);
+            case "halignment":
+                return PropertyDescriptor.select(nodeClass, Separator.HALIGNMENT);
+            case "hbarpolicy":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.HBAR_POLICY);
+            case "height":
+                return PropertyDescriptor.select(nodeClass, Region.HEIGHT);
+            case "hgap":
+                return PropertyDescriptor.select(nodeClass, GridPane.HGAP);
+            case "hmax":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.HMAX);
+            case "hmin":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.HMIN);
+            case "hover":
+                return PropertyDescriptor.select(nodeClass, Node.HOVER);
+            case "hvalue":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.HVALUE);
+            case "id":
+                return PropertyDescriptor.select(nodeClass, Node.ID);
+            case "image":
+                return PropertyDescriptor.select(nodeClass, ImageView.IMAGE);
+            case "indeterminate":
+                return PropertyDescriptor.select(nodeClass, ProgressIndicator.INDETERMINATE);
+            case "inputmethodrequests":
+                return PropertyDescriptor.select(nodeClass, Node.INPUT_METHOD_REQUESTS);
+            case "insets":
+                return PropertyDescriptor.select(nodeClass, Region.INSETS);
+            case "items":
+                return PropertyDescriptor.select(nodeClass, ChoiceBox.ITEMS, ListView.ITEMS);
+            case "labelfor":
+                return PropertyDescriptor.select(nodeClass, Label.LABEL_FOR);
+            case "labelpadding":
+                return PropertyDescriptor.select(nodeClass, Labeled.LABEL_PADDING);
+            case "layoutbounds":
+                return PropertyDescriptor.select(nodeClass, Node.LAYOUT_BOUNDS);
+            case "layoutx":
+                return PropertyDescriptor.select(nodeClass, Node.LAYOUT_X);
+            case "layouty":
+                return PropertyDescriptor.select(nodeClass, Node.LAYOUT_Y);
+            case "left":
+                return PropertyDescriptor.select(nodeClass, BorderPane.LEFT);
+            case "length":
+                return PropertyDescriptor.select(nodeClass, TextInputControl.LENGTH);
+            case "linespacing":
+                return PropertyDescriptor.select(nodeClass, Labeled.LINE_SPACING, Text.LINE_SPACING);
+            case "localtoparenttransform":
+                return PropertyDescriptor.select(nodeClass, Node.LOCAL_TO_PARENT_TRANSFORM);
+            case "localtoscenetransform":
+                return PropertyDescriptor.select(nodeClass, Node.LOCAL_TO_SCENE_TRANSFORM);
+            case "managed":
+                return PropertyDescriptor.select(nodeClass, Node.MANAGED);
+            case "maxheight":
+                return PropertyDescriptor.select(nodeClass, Region.MAX_HEIGHT);
+            case "maxwidth":
+                return PropertyDescriptor.select(nodeClass, Region.MAX_WIDTH);
+            case "minheight":
+                return PropertyDescriptor.select(nodeClass, Region.MIN_HEIGHT);
+            case "minviewportheight":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.MIN_VIEWPORT_HEIGHT);
+            case "minviewportwidth":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.MIN_VIEWPORT_WIDTH);
+            case "minwidth":
+                return PropertyDescriptor.select(nodeClass, Region.MIN_WIDTH);
+            case "mnemonicparsing":
+                return PropertyDescriptor.select(nodeClass, Labeled.MNEMONIC_PARSING);
+            case "mousetransparent":
+                return PropertyDescriptor.select(nodeClass, Node.MOUSE_TRANSPARENT);
+            case "needslayout":
+                return PropertyDescriptor.select(nodeClass, Parent.NEEDS_LAYOUT);
+            case "nodeorientation":
+                return PropertyDescriptor.select(nodeClass, Node.NODE_ORIENTATION);
+            case "onaction":
+                return PropertyDescriptor.select(nodeClass, ButtonBase.ON_ACTION, TextField.ON_ACTION, ChoiceBox.ON_ACTION);
+            case "oncontextmenurequested":
+                return PropertyDescriptor.select(nodeClass, Node.ON_CONTEXT_MENU_REQUESTED);
+            case "ondragdetected":
+                return PropertyDescriptor.select(nodeClass, Node.ON_DRAG_DETECTED);
+            case "ondragdone":
+                return PropertyDescriptor.select(nodeClass, Node.ON_DRAG_DONE);
+            case "ondragdropped":
+                return PropertyDescriptor.select(nodeClass, Node.ON_DRAG_DROPPED);
+            case "ondragentered":
+                return PropertyDescriptor.select(nodeClass, Node.ON_DRAG_ENTERED);
+            case "ondragexited":
+                return PropertyDescriptor.select(nodeClass, Node.ON_DRAG_EXITED);
+            case "ondragover":
+                return PropertyDescriptor.select(nodeClass, Node.ON_DRAG_OVER);
+            case "oneditcancel":
+                return PropertyDescriptor.select(nodeClass, ListView.ON_EDIT_CANCEL, TreeView.ON_EDIT_CANCEL);
+            case "oneditcommit":
+                return PropertyDescriptor.select(nodeClass, ListView.ON_EDIT_COMMIT, TreeView.ON_EDIT_COMMIT);
+            case "oneditstart":
+                return PropertyDescriptor.select(nodeClass, ListView.ON_EDIT_START, TreeView.ON_EDIT_START);
+            case "onhidden":
+                return PropertyDescriptor.select(nodeClass, ChoiceBox.ON_HIDDEN);
+            case "onhiding":
+                return PropertyDescriptor.select(nodeClass, ChoiceBox.ON_HIDING);
+            case "oninputmethodtextchanged":
+                return PropertyDescriptor.select(nodeClass, Node.ON_INPUT_METHOD_TEXT_CHANGED);
+            case "onkeypressed":
+                return PropertyDescriptor.select(nodeClass, Node.ON_KEY_PRESSED);
+            case "onkeyreleased":
+                return PropertyDescriptor.select(nodeClass, Node.ON_KEY_RELEASED);
+            case "onkeytyped":
+                return PropertyDescriptor.select(nodeClass, Node.ON_KEY_TYPED);
+            case "onmouseclicked":
+                return PropertyDescriptor.select(nodeClass, Node.ON_MOUSE_CLICKED);
+            case "onmousedragentered":
+                return PropertyDescriptor.select(nodeClass, Node.ON_MOUSE_DRAG_ENTERED);
+            case "onmousedragexited":
+                return PropertyDescriptor.select(nodeClass, Node.ON_MOUSE_DRAG_EXITED);
+            case "onmousedragged":
+                return PropertyDescriptor.select(nodeClass, Node.ON_MOUSE_DRAGGED);
+            case "onmousedragover":
+                return PropertyDescriptor.select(nodeClass, Node.ON_MOUSE_DRAG_OVER);
+            case "onmousedragreleased":
+                return PropertyDescriptor.select(nodeClass, Node.ON_MOUSE_DRAG_RELEASED);
+            case "onmouseentered":
+                return PropertyDescriptor.select(nodeClass, Node.ON_MOUSE_ENTERED);
+            case "onmouseexited":
+                return PropertyDescriptor.select(nodeClass, Node.ON_MOUSE_EXITED);
+            case "onmousemoved":
+                return PropertyDescriptor.select(nodeClass, Node.ON_MOUSE_MOVED);
+            case "onmousepressed":
+                return PropertyDescriptor.select(nodeClass, Node.ON_MOUSE_PRESSED);
+            case "onmousereleased":
+                return PropertyDescriptor.select(nodeClass, Node.ON_MOUSE_RELEASED);
+            case "onrotate":
+                return PropertyDescriptor.select(nodeClass, Node.ON_ROTATE);
+            case "onrotationfinished":
+                return PropertyDescriptor.select(nodeClass, Node.ON_ROTATION_FINISHED);
+            case "onrotationstarted":
+                return PropertyDescriptor.select(nodeClass, Node.ON_ROTATION_STARTED);
+            case "onscroll":
+                return PropertyDescriptor.select(nodeClass, Node.ON_SCROLL);
+            case "onscrollfinished":
+                return PropertyDescriptor.select(nodeClass, Node.ON_SCROLL_FINISHED);
+            case "onscrollstarted":
+                return PropertyDescriptor.select(nodeClass, Node.ON_SCROLL_STARTED);
+            case "onscrollto":
+                return PropertyDescriptor.select(nodeClass, ListView.ON_SCROLL_TO, TreeView.ON_SCROLL_TO);
+            case "onshowing":
+                return PropertyDescriptor.select(nodeClass, ChoiceBox.ON_SHOWING);
+            case "onshown":
+                return PropertyDescriptor.select(nodeClass, ChoiceBox.ON_SHOWN);
+            case "onswipedown":
+                return PropertyDescriptor.select(nodeClass, Node.ON_SWIPE_DOWN);
+            case "onswipeleft":
+                return PropertyDescriptor.select(nodeClass, Node.ON_SWIPE_LEFT);
+            case "onswiperight":
+                return PropertyDescriptor.select(nodeClass, Node.ON_SWIPE_RIGHT);
+            case "onswipeup":
+                return PropertyDescriptor.select(nodeClass, Node.ON_SWIPE_UP);
+            case "ontouchmoved":
+                return PropertyDescriptor.select(nodeClass, Node.ON_TOUCH_MOVED);
+            case "ontouchpressed":
+                return PropertyDescriptor.select(nodeClass, Node.ON_TOUCH_PRESSED);
+            case "ontouchreleased":
+                return PropertyDescriptor.select(nodeClass, Node.ON_TOUCH_RELEASED);
+            case "ontouchstationary":
+                return PropertyDescriptor.select(nodeClass, Node.ON_TOUCH_STATIONARY);
+            case "onzoom":
+                return PropertyDescriptor.select(nodeClass, Node.ON_ZOOM);
+            case "onzoomfinished":
+                return PropertyDescriptor.select(nodeClass, Node.ON_ZOOM_FINISHED);
+            case "onzoomstarted":
+                return PropertyDescriptor.select(nodeClass, Node.ON_ZOOM_STARTED);
+            case "opacity":
+                return PropertyDescriptor.select(nodeClass, Node.OPACITY);
+            case "opaqueinsets":
+                return PropertyDescriptor.select(nodeClass, Region.OPAQUE_INSETS);
+            case "orientation":
+                return PropertyDescriptor.select(nodeClass, ListView.ORIENTATION, Separator.ORIENTATION);
+            case "padding":
+                return PropertyDescriptor.select(nodeClass, Region.PADDING);
+            case "pannable":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.PANNABLE);
+            case "parent":
+                return PropertyDescriptor.select(nodeClass, Node.PARENT);
+            case "pickonbounds":
+                return PropertyDescriptor.select(nodeClass, Node.PICK_ON_BOUNDS);
+            case "placeholder":
+                return PropertyDescriptor.select(nodeClass, ListView.PLACEHOLDER);
+            case "prefcolumncount":
+                return PropertyDescriptor.select(nodeClass, TextArea.PREF_COLUMN_COUNT, TextField.PREF_COLUMN_COUNT);
+            case "prefheight":
+                return PropertyDescriptor.select(nodeClass, Region.PREF_HEIGHT);
+            case "prefrowcount":
+                return PropertyDescriptor.select(nodeClass, TextArea.PREF_ROW_COUNT);
+            case "prefviewportheight":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.PREF_VIEWPORT_HEIGHT);
+            case "prefviewportwidth":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.PREF_VIEWPORT_WIDTH);
+            case "prefwidth":
+                return PropertyDescriptor.select(nodeClass, Region.PREF_WIDTH);
+            case "preserveratio":
+                return PropertyDescriptor.select(nodeClass, ImageView.PRESERVE_RATIO);
+            case "pressed":
+                return PropertyDescriptor.select(nodeClass, Node.PRESSED);
+            case "progress":
+                return PropertyDescriptor.select(nodeClass, ProgressIndicator.PROGRESS);
+            case "prompttext":
+                return PropertyDescriptor.select(nodeClass, TextInputControl.PROMPT_TEXT);
+            case "redoable":
+                return PropertyDescriptor.select(nodeClass, TextInputControl.REDOABLE);
+            case "right":
+                return PropertyDescriptor.select(nodeClass, BorderPane.RIGHT);
+            case "root":
+                return PropertyDescriptor.select(nodeClass, TreeView.ROOT);
+            case "rotate":
+                return PropertyDescriptor.select(nodeClass, Node.ROTATE);
+            case "rotategraphic":
+                return PropertyDescriptor.select(nodeClass, TabPane.ROTATE_GRAPHIC);
+            case "rotationaxis":
+                return PropertyDescriptor.select(nodeClass, Node.ROTATION_AXIS);
+            case "scaleshape":
+                return PropertyDescriptor.select(nodeClass, Region.SCALE_SHAPE);
+            case "scalex":
+                return PropertyDescriptor.select(nodeClass, Node.SCALE_X);
+            case "scaley":
+                return PropertyDescriptor.select(nodeClass, Node.SCALE_Y);
+            case "scalez":
+                return PropertyDescriptor.select(nodeClass, Node.SCALE_Z);
+            case "scene":
+                return PropertyDescriptor.select(nodeClass, Node.SCENE);
+            case "scrollleft":
+                return PropertyDescriptor.select(nodeClass, TextArea.SCROLL_LEFT);
+            case "scrolltop":
+                return PropertyDescriptor.select(nodeClass, TextArea.SCROLL_TOP);
+            case "selectedtext":
+                return PropertyDescriptor.select(nodeClass, TextInputControl.SELECTED_TEXT);
+            case "selection":
+                return PropertyDescriptor.select(nodeClass, TextInputControl.SELECTION);
+            case "selectionend":
+                return PropertyDescriptor.select(nodeClass, Text.SELECTION_END);
+            case "selectionfill":
+                return PropertyDescriptor.select(nodeClass, Text.SELECTION_FILL);
+            case "selectionmodel":
+                return PropertyDescriptor.select(nodeClass, ChoiceBox.SELECTION_MODEL, ListView.SELECTION_MODEL, TabPane.SELECTION_MODEL, TreeView.SELECTION_MODEL);
+            case "selectionshape":
+                return PropertyDescriptor.select(nodeClass, Text.SELECTION_SHAPE);
+            case "selectionstart":
+                return PropertyDescriptor.select(nodeClass, Text.SELECTION_START);
+            case "shape":
+                return PropertyDescriptor.select(nodeClass, Region.SHAPE);
+            case "showing":
+                return PropertyDescriptor.select(nodeClass, ChoiceBox.SHOWING);
+            case "showroot":
+                return PropertyDescriptor.select(nodeClass, TreeView.SHOW_ROOT);
+            case "side":
+                return PropertyDescriptor.select(nodeClass, TabPane.SIDE);
+            case "skin":
+                return PropertyDescriptor.select(nodeClass, Control.SKIN);
+            case "smooth":
+                return PropertyDescriptor.select(nodeClass, ImageView.SMOOTH, Shape.SMOOTH);
+            case "snaptopixel":
+                return PropertyDescriptor.select(nodeClass, Region.SNAP_TO_PIXEL);
+            case "spacing":
+                return PropertyDescriptor.select(nodeClass, HBox.SPACING, VBox.SPACING);
+            case "strikethrough":
+                return PropertyDescriptor.select(nodeClass, Text.STRIKETHROUGH);
+            case "stroke":
+                return PropertyDescriptor.select(nodeClass, Shape.STROKE);
+            case "strokedashoffset":
+                return PropertyDescriptor.select(nodeClass, Shape.STROKE_DASH_OFFSET);
+            case "strokelinecap":
+                return PropertyDescriptor.select(nodeClass, Shape.STROKE_LINE_CAP);
+            case "strokelinejoin":
+                return PropertyDescriptor.select(nodeClass, Shape.STROKE_LINE_JOIN);
+            case "strokemiterlimit":
+                return PropertyDescriptor.select(nodeClass, Shape.STROKE_MITER_LIMIT);
+            case "stroketype":
+                return PropertyDescriptor.select(nodeClass, Shape.STROKE_TYPE);
+            case "strokewidth":
+                return PropertyDescriptor.select(nodeClass, Shape.STROKE_WIDTH);
+            case "style":
+                return PropertyDescriptor.select(nodeClass, Node.STYLE);
+            case "tabclosingpolicy":
+                return PropertyDescriptor.select(nodeClass, TabPane.TAB_CLOSING_POLICY);
+            case "tabdragpolicy":
+                return PropertyDescriptor.select(nodeClass, TabPane.TAB_DRAG_POLICY);
+            case "tabmaxheight":
+                return PropertyDescriptor.select(nodeClass, TabPane.TAB_MAX_HEIGHT);
+            case "tabmaxwidth":
+                return PropertyDescriptor.select(nodeClass, TabPane.TAB_MAX_WIDTH);
+            case "tabminheight":
+                return PropertyDescriptor.select(nodeClass, TabPane.TAB_MIN_HEIGHT);
+            case "tabminwidth":
+                return PropertyDescriptor.select(nodeClass, TabPane.TAB_MIN_WIDTH);
+            case "tabsize":
+                return PropertyDescriptor.select(nodeClass, Text.TAB_SIZE);
+            case "text":
+                return PropertyDescriptor.select(nodeClass, Labeled.TEXT, TextInputControl.TEXT, Text.TEXT);
+            case "textalignment":
+                return PropertyDescriptor.select(nodeClass, Labeled.TEXT_ALIGNMENT, Text.TEXT_ALIGNMENT);
+            case "textfill":
+                return PropertyDescriptor.select(nodeClass, Labeled.TEXT_FILL);
+            case "textformatter":
+                return PropertyDescriptor.select(nodeClass, TextInputControl.TEXT_FORMATTER);
+            case "textorigin":
+                return PropertyDescriptor.select(nodeClass, Text.TEXT_ORIGIN);
+            case "textoverrun":
+                return PropertyDescriptor.select(nodeClass, Labeled.TEXT_OVERRUN);
+            case "tooltip":
+                return PropertyDescriptor.select(nodeClass, Control.TOOLTIP);
+            case "top":
+                return PropertyDescriptor.select(nodeClass, BorderPane.TOP);
+            case "translatex":
+                return PropertyDescriptor.select(nodeClass, Node.TRANSLATE_X);
+            case "translatey":
+                return PropertyDescriptor.select(nodeClass, Node.TRANSLATE_Y);
+            case "translatez":
+                return PropertyDescriptor.select(nodeClass, Node.TRANSLATE_Z);
+            case "underline":
+                return PropertyDescriptor.select(nodeClass, Labeled.UNDERLINE, Text.UNDERLINE);
+            case "undoable":
+                return PropertyDescriptor.select(nodeClass, TextInputControl.UNDOABLE);
+            case "valignment":
+                return PropertyDescriptor.select(nodeClass, Separator.VALIGNMENT);
+            case "value":
+                return PropertyDescriptor.select(nodeClass, ChoiceBox.VALUE);
+            case "vbarpolicy":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.VBAR_POLICY);
+            case "vgap":
+                return PropertyDescriptor.select(nodeClass, GridPane.VGAP);
+            case "vieworder":
+                return PropertyDescriptor.select(nodeClass, Node.VIEW_ORDER);
+            case "viewport":
+                return PropertyDescriptor.select(nodeClass, ImageView.VIEWPORT);
+            case "viewportbounds":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.VIEWPORT_BOUNDS);
+            case "visible":
+                return PropertyDescriptor.select(nodeClass, Node.VISIBLE);
+            case "visited":
+                return PropertyDescriptor.select(nodeClass, Hyperlink.VISITED);
+            case "vmax":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.VMAX);
+            case "vmin":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.VMIN);
+            case "vvalue":
+                return PropertyDescriptor.select(nodeClass, ScrollPane.VVALUE);
+            case "width":
+                return PropertyDescriptor.select(nodeClass, Region.WIDTH);
+            case "wrappingwidth":
+                return PropertyDescriptor.select(nodeClass, Text.WRAPPING_WIDTH);
+            case "wraptext":
+                return PropertyDescriptor.select(nodeClass, TextArea.WRAP_TEXT, Labeled.WRAP_TEXT);
+            case "x":
+                return PropertyDescriptor.select(nodeClass, Text.X, ImageView.X);
+            case "y":
+                return PropertyDescriptor.select(nodeClass, Text.Y, ImageView.Y);
+            default:
+                return null;
+        }
+    }
+
+    @NotNull
+    private static <T> ObservableValue<T> cast(@NotNull ObservableValue<?> value) {
+        return (ObservableValue<T>) value;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.property;
+
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+
+/**
+ * A typed, precomputed description of a JavaFX property of a node class.
+ * <p>
+ * Descriptors for the node classes used by {@link grevend.declarativefx.component.Layout} and
+ * {@link grevend.declarativefx.component.Controls} are generated at build time into
+ * {@link FXProperties}, so they resolve a property with a direct method call and no reflection.
+ *
+ * @param <N> the node class declaring the property
+ * @param <T> the type of the property value
+ *
+ * @since 0.7.8
+ */
+public final class PropertyDescriptor<N extends Node, T> {
+
+    private final String name;
+    private final Class<N> nodeClass;
+    private final Function<N, ? extends ObservableValue<T>> accessor;
+    private final boolean writable;
+
+    @Contract(pure = true)
+    public PropertyDescriptor(@NotNull String name, @NotNull Class<N> nodeClass, @NotNull Function<N, ? extends ObservableValue<T>> accessor, boolean writable) {
+        this.name = name;
+        this.nodeClass = nodeClass;
+        this.accessor = accessor;
+        this.writable = writable;
+    }
+
+    /**
+     * @return the first candidate whose node class is assignable from the specified class
+     */
+    @Nullable
+    public static PropertyDescriptor<?, ?> select(@NotNull Class<?> nodeClass, @NotNull PropertyDescriptor<?, ?>... candidates) {
+        for (PropertyDescriptor<?, ?> candidate : candidates) {
+            if (candidate.nodeClass.isAssignableFrom(nodeClass)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the lower case name of the property, as used by
+     * {@link grevend.declarativefx.component.Component#set(String, Object)}
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    @NotNull
+    public Class<N> getNodeClass() {
+        return nodeClass;
+    }
+
+    public boolean isWritable() {
+        return writable;
+    }
+
+    @NotNull
+    public ObservableValue<T> observe(@NotNull N node) {
+        return this.accessor.apply(node);
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return "PropertyDescriptor{name=" + name + ", nodeClass=" + nodeClass.getName() + '}';
+    }
+
+}
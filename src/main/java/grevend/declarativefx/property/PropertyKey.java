@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.property;
+
+import grevend.declarativefx.util.Utils;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * An interned, typed token for a component property.
+ * <p>
+ * The name is normalized once when the key is created, and the property of every node class
+ * is resolved once and cached on the key. Passing a key instead of a string to
+ * {@link grevend.declarativefx.component.Component#set(PropertyKey, Object)} and its siblings
+ * therefore skips case folding and the name lookup, and the value needs no cast.
+ *
+ * @param <T> the type of the property value
+ *
+ * @since 0.7.8
+ */
+public final class PropertyKey<T> {
+
+    private static final Map<String, PropertyKey<?>> keys = new ConcurrentHashMap<>();
+    private static final Function<Node, ObservableValue<Object>> missing = node -> null;
+
+    public static final PropertyKey<String> ID = of("id");
+    public static final PropertyKey<String> STYLE = of("style");
+    public static final PropertyKey<Object> STYLE_CLASS = of("styleclass");
+    public static final PropertyKey<Integer> MARKER = of("marker");
+    public static final PropertyKey<String> TEXT = of("text");
+    public static final PropertyKey<String> PROMPT_TEXT = of("prompttext");
+    public static final PropertyKey<Object> VALUE = of("value");
+    public static final PropertyKey<Boolean> VISIBLE = of("visible");
+    public static final PropertyKey<Boolean> DISABLE = of("disable");
+
+    private final String name;
+    private final boolean special;
+    private final ClassValue<Function<Node, ObservableValue<Object>>> accessors;
+
+    @Contract(pure = true)
+    private PropertyKey(@NotNull String name) {
+        this.name = name;
+        this.special = name.equals("id") || name.equals("style") || name.equals("styleclass") || name.equals("marker");
+        this.accessors = new ClassValue<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected Function<Node, ObservableValue<Object>> computeValue(Class<?> type) {
+                var descriptor = (PropertyDescriptor<Node, Object>) FXProperties.find(type, name);
+                if (descriptor != null) {
+                    return descriptor::observe;
+                } else if (Node.class.isAssignableFrom(type)) {
+                    var accessor = Utils.getPropertyAccessor((Class<? extends Node>) type, name);
+                    if (accessor != null) {
+                        return accessor;
+                    }
+                }
+                return missing;
+            }
+        };
+    }
+
+    /**
+     * @param name the case-insensitive name of the property
+     *
+     * @return the key of the property, equal names always return the same instance
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T> PropertyKey<T> of(@NotNull String name) {
+        return (PropertyKey<T>) keys.computeIfAbsent(name.toLowerCase(Locale.ROOT), PropertyKey::new);
+    }
+
+    /**
+     * @return the lower case name of the property
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return {@code true} for the keys that are handled by the component itself instead of
+     * a JavaFX property, i.e. {@code id}, {@code style}, {@code styleclass} and {@code marker}
+     */
+    public boolean isSpecial() {
+        return special;
+    }
+
+    /**
+     * @return the property of the node or {@code null} if the node class does not declare it
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public ObservableValue<T> resolve(@NotNull Node node) {
+        return (ObservableValue<T>) this.accessors.get(node.getClass()).apply(node);
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return "PropertyKey{name=" + name + '}';
+    }
+
+}
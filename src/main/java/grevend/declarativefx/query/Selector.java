@@ -0,0 +1,469 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.query;
+
+import grevend.declarativefx.component.Component;
+import grevend.declarativefx.property.PropertyKey;
+import javafx.scene.Node;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compiled CSS-like selector matching components within a component tree.
+ * <p>
+ * Supported are type selectors matching the simple name of the node class or one of its
+ * superclasses ({@code HBox}, {@code *}), {@code #id}, {@code .class}, attribute predicates on
+ * component properties ({@code [text]}, {@code [text=value]}, {@code [text!=value]},
+ * {@code [text^=prefix]}, {@code [text$=suffix]}, {@code [text*=infix]}), the pseudo classes
+ * {@code :marked}, {@code :decorated} and {@code :leaf}, the descendant and {@code >} child
+ * combinators and comma separated selector lists, e.g.
+ * {@code #results HBox.row:marked, #results > Text[text^="Total"]}.
+ * <p>
+ * Selectors are compiled once and cached. A query visits every descendant of the root at most
+ * once and stops at the first match if only that is wanted.
+ *
+ * @since 0.7.8
+ */
+public final class Selector {
+
+    private static final int CACHE_SIZE = 256;
+    private static final Map<String, Selector> cache = new ConcurrentHashMap<>();
+
+    private final String selector;
+    private final Chain[] chains;
+
+    @Contract(pure = true)
+    private Selector(@NotNull String selector, @NotNull Chain[] chains) {
+        this.selector = selector;
+        this.chains = chains;
+    }
+
+    /**
+     * @return the compiled selector, shared between all callers using the same selector.
+     *
+     * @throws SelectorException if the selector is malformed.
+     */
+    @NotNull
+    public static Selector compile(@NotNull String selector) {
+        var compiled = cache.get(selector);
+        if (compiled == null) {
+            compiled = new Parser(selector).parse();
+            if (cache.size() >= CACHE_SIZE) {
+                cache.clear();
+            }
+            cache.put(selector, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * @return all descendants of {@code root} matching this selector in depth-first order.
+     */
+    @NotNull
+    public List<Component<? extends Node>> query(@NotNull Component<? extends Node> root) {
+        var matches = new ArrayList<Component<? extends Node>>();
+        var path = new Component<?>[16];
+        path[0] = root;
+        this.visit(root, path, 1, matches, false);
+        return matches;
+    }
+
+    /**
+     * @return the first descendant of {@code root} in depth-first order matching this selector.
+     */
+    @Nullable
+    public Component<? extends Node> queryFirst(@NotNull Component<? extends Node> root) {
+        var matches = new ArrayList<Component<? extends Node>>(1);
+        var path = new Component<?>[16];
+        path[0] = root;
+        this.visit(root, path, 1, matches, true);
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    private boolean visit(@NotNull Component<? extends Node> parent, @NotNull Component<?>[] path, int depth, @NotNull Collection<Component<? extends Node>> matches, boolean first) {
+        if (parent.isLeaf()) {
+            return false;
+        }
+        for (Component<? extends Node> component : parent.getChildren()) {
+            if (component == null || component == parent) {
+                continue;
+            }
+            if (this.matches(component, path, depth)) {
+                matches.add(component);
+                if (first) {
+                    return true;
+                }
+            }
+            if (!component.isLeaf()) {
+                if (depth == path.length) {
+                    path = Arrays.copyOf(path, depth * 2);
+                }
+                path[depth] = component;
+                if (this.visit(component, path, depth + 1, matches, first)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param ancestors the ancestors of {@code component}, the root first.
+     * @param depth     the number of ancestors.
+     */
+    private boolean matches(@NotNull Component<?> component, @NotNull Component<?>[] ancestors, int depth) {
+        for (Chain chain : this.chains) {
+            if (chain.matches(component, ancestors, depth)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return this.selector;
+    }
+
+    private static final class Chain {
+
+        private final Compound[] compounds;
+        private final boolean[] child;
+
+        @Contract(pure = true)
+        private Chain(@NotNull Compound[] compounds, @NotNull boolean[] child) {
+            this.compounds = compounds;
+            this.child = child;
+        }
+
+        private boolean matches(@NotNull Component<?> component, @NotNull Component<?>[] ancestors, int depth) {
+            var last = this.compounds.length - 1;
+            return this.compounds[last].matches(component) && this.matches(last - 1, ancestors, depth - 1);
+        }
+
+        private boolean matches(int compound, @NotNull Component<?>[] ancestors, int position) {
+            if (compound < 0) {
+                return true;
+            } else if (this.child[compound + 1]) {
+                return position >= 0 && this.compounds[compound].matches(ancestors[position]) &&
+                    this.matches(compound - 1, ancestors, position - 1);
+            } else {
+                for (var i = position; i >= 0; i--) {
+                    if (this.compounds[compound].matches(ancestors[i]) &&
+                        this.matches(compound - 1, ancestors, i - 1)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+
+    }
+
+    private static final class Compound {
+
+        private String type, id;
+        private final List<String> classes = new ArrayList<>(1);
+        private final List<Attribute> attributes = new ArrayList<>(1);
+        private boolean marked, decorated, leaf, empty = true;
+
+        private boolean matches(@NotNull Component<?> component) {
+            var node = component.getNode();
+            if (this.type != null && !isOfType(node.getClass(), this.type)) {
+                return false;
+            } else if (this.id != null && !this.id.equals(node.getId())) {
+                return false;
+            } else if ((this.marked && !component.isMarked()) || (this.decorated && !component.isDecorated()) ||
+                (this.leaf && !component.isLeaf())) {
+                return false;
+            }
+            for (String clazz : this.classes) {
+                if (!node.getStyleClass().contains(clazz)) {
+                    return false;
+                }
+            }
+            for (Attribute attribute : this.attributes) {
+                if (!attribute.matches(component)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isOfType(@NotNull Class<?> clazz, @NotNull String type) {
+            for (var current = clazz; current != null; current = current.getSuperclass()) {
+                if (current.getSimpleName().equals(type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    private static final class Attribute {
+
+        private final PropertyKey<Object> property;
+        private final String operator, value;
+
+        @Contract(pure = true)
+        private Attribute(@NotNull String property, @Nullable String operator, @Nullable String value) {
+            this.property = PropertyKey.of(property);
+            this.operator = operator;
+            this.value = value;
+        }
+
+        private boolean matches(@NotNull Component<?> component) {
+            Object actual;
+            if (this.property.isSpecial()) {
+                actual = component.get(this.property);
+            } else {
+                var observable = this.property.resolve(component.getNode());
+                if (observable == null) {
+                    return false;
+                }
+                actual = observable.getValue();
+            }
+            if (this.operator == null) {
+                return actual != null;
+            } else if (this.operator.equals("!=")) {
+                return actual == null || !Objects.equals(String.valueOf(actual), this.value);
+            } else if (actual == null) {
+                return false;
+            }
+            var string = String.valueOf(actual);
+            switch (this.operator) {
+                case "=":
+                    return string.equals(this.value);
+                case "^=":
+                    return string.startsWith(this.value);
+                case "$=":
+                    return string.endsWith(this.value);
+                default:
+                    return string.contains(this.value);
+            }
+        }
+
+    }
+
+    private static final class Parser {
+
+        private final String selector;
+        private int position;
+
+        @Contract(pure = true)
+        private Parser(@NotNull String selector) {
+            this.selector = selector;
+        }
+
+        @NotNull
+        private Selector parse() {
+            var chains = new ArrayList<Chain>(1);
+            do {
+                chains.add(this.chain());
+            } while (this.accept(','));
+            this.skipWhitespace();
+            if (this.position < this.selector.length()) {
+                throw this.error("Unexpected '" + this.selector.charAt(this.position) + "'");
+            }
+            return new Selector(this.selector, chains.toArray(new Chain[0]));
+        }
+
+        @NotNull
+        private Chain chain() {
+            var compounds = new ArrayList<Compound>(2);
+            var child = new ArrayList<Boolean>(2);
+            this.skipWhitespace();
+            child.add(false);
+            compounds.add(this.compound());
+            while (true) {
+                var whitespace = this.skipWhitespace();
+                if (this.accept('>')) {
+                    this.skipWhitespace();
+                    child.add(true);
+                } else if (whitespace && this.position < this.selector.length() &&
+                    this.selector.charAt(this.position) != ',') {
+                    child.add(false);
+                } else {
+                    break;
+                }
+                compounds.add(this.compound());
+            }
+            var combinators = new boolean[child.size()];
+            for (var i = 0; i < combinators.length; i++) {
+                combinators[i] = child.get(i);
+            }
+            return new Chain(compounds.toArray(new Compound[0]), combinators);
+        }
+
+        @NotNull
+        private Compound compound() {
+            var compound = new Compound();
+            if (this.accept('*')) {
+                compound.empty = false;
+            } else if (this.isIdentifier()) {
+                compound.type = this.identifier();
+                compound.empty = false;
+            }
+            while (this.position < this.selector.length()) {
+                var c = this.selector.charAt(this.position);
+                if (c == '#') {
+                    this.position++;
+                    compound.id = this.identifier();
+                } else if (c == '.') {
+                    this.position++;
+                    compound.classes.add(this.identifier());
+                } else if (c == '[') {
+                    this.position++;
+                    compound.attributes.add(this.attribute());
+                } else if (c == ':') {
+                    this.position++;
+                    var start = this.position;
+                    switch (this.identifier()) {
+                        case "marked":
+                            compound.marked = true;
+                            break;
+                        case "decorated":
+                            compound.decorated = true;
+                            break;
+                        case "leaf":
+                            compound.leaf = true;
+                            break;
+                        default:
+                            this.position = start;
+                            throw this.error("Unknown pseudo class");
+                    }
+                } else {
+                    break;
+                }
+                compound.empty = false;
+            }
+            if (compound.empty) {
+                throw this.error("Expected a selector");
+            }
+            return compound;
+        }
+
+        @NotNull
+        private Attribute attribute() {
+            this.skipWhitespace();
+            var property = this.identifier();
+            this.skipWhitespace();
+            String operator = null, value = null;
+            if (!this.accept(']')) {
+                for (String candidate : new String[]{"=", "!=", "^=", "$=", "*="}) {
+                    if (this.selector.startsWith(candidate, this.position)) {
+                        operator = candidate;
+                    }
+                }
+                if (operator == null) {
+                    throw this.error("Expected an attribute operator");
+                }
+                this.position += operator.length();
+                this.skipWhitespace();
+                value = this.value();
+                this.skipWhitespace();
+                if (!this.accept(']')) {
+                    throw this.error("Expected ']'");
+                }
+            }
+            return new Attribute(property, operator, value);
+        }
+
+        @NotNull
+        private String value() {
+            if (this.position < this.selector.length()) {
+                var quote = this.selector.charAt(this.position);
+                if (quote == '"' || quote == '\'') {
+                    var end = this.selector.indexOf(quote, this.position + 1);
+                    if (end < 0) {
+                        throw this.error("Unterminated string");
+                    }
+                    var value = this.selector.substring(this.position + 1, end);
+                    this.position = end + 1;
+                    return value;
+                }
+            }
+            var start = this.position;
+            while (this.position < this.selector.length() && this.selector.charAt(this.position) != ']' &&
+                !Character.isWhitespace(this.selector.charAt(this.position))) {
+                this.position++;
+            }
+            return this.selector.substring(start, this.position);
+        }
+
+        private boolean isIdentifier() {
+            if (this.position < this.selector.length()) {
+                var c = this.selector.charAt(this.position);
+                return Character.isLetterOrDigit(c) || c == '-' || c == '_';
+            }
+            return false;
+        }
+
+        @NotNull
+        private String identifier() {
+            var start = this.position;
+            while (this.isIdentifier()) {
+                this.position++;
+            }
+            if (start == this.position) {
+                throw this.error("Expected an identifier");
+            }
+            return this.selector.substring(start, this.position);
+        }
+
+        private boolean accept(char c) {
+            if (this.position < this.selector.length() && this.selector.charAt(this.position) == c) {
+                this.position++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean skipWhitespace() {
+            var start = this.position;
+            while (this.position < this.selector.length() && Character.isWhitespace(this.selector.charAt(this.position))) {
+                this.position++;
+            }
+            return start != this.position;
+        }
+
+        @NotNull
+        private SelectorException error(@NotNull String msg) {
+            return new SelectorException(this.selector, this.position, msg);
+        }
+
+    }
+
+}
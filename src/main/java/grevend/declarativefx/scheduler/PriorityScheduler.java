@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.scheduler;
+
+import javafx.application.Platform;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs deferred UI work on the JavaFX application thread in priority lanes instead of FIFO.
+ * <p>
+ * Work can be posted from any thread. A drain always empties higher lanes before it runs
+ * anything from a lower one, and stops once its time budget is spent, yielding the application
+ * thread to pending input events before the next drain. {@link Lane#BACKGROUND} work is
+ * therefore starved deliberately for as long as higher priority work keeps arriving.
+ *
+ * @since 0.7.8
+ */
+public final class PriorityScheduler {
+
+    private static final Lane[] lanes = Lane.values();
+    private static final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private static volatile long budget = TimeUnit.MILLISECONDS.toNanos(8);
+
+    @Contract(pure = true)
+    private PriorityScheduler() {
+    }
+
+    /**
+     * Posts {@code runnable} to {@code lane}, it runs during a later drain on the application
+     * thread.
+     */
+    public static void post(@NotNull Lane lane, @NotNull Runnable runnable) {
+        lane.queue.add(runnable);
+        var depth = lane.depth.incrementAndGet();
+        lane.peak.accumulateAndGet(depth, Math::max);
+        if (scheduled.compareAndSet(false, true)) {
+            Platform.runLater(PriorityScheduler::drain);
+        }
+    }
+
+    /**
+     * @return an executor posting to {@code lane}, e.g. for
+     * {@link grevend.declarativefx.bindable.ConcurrentBindableMap}.
+     */
+    @NotNull
+    public static Executor executor(@NotNull Lane lane) {
+        return lane.executor;
+    }
+
+    private static void drain() {
+        scheduled.set(false);
+        var deadline = System.nanoTime() + budget;
+        Runnable runnable;
+        while ((runnable = poll()) != null) {
+            try {
+                runnable.run();
+            } catch (RuntimeException exception) {
+                reschedule();
+                throw exception;
+            }
+            if (System.nanoTime() >= deadline) {
+                reschedule();
+                return;
+            }
+        }
+    }
+
+    @Nullable
+    private static Runnable poll() {
+        for (Lane lane : lanes) {
+            var runnable = lane.queue.poll();
+            if (runnable != null) {
+                lane.depth.decrementAndGet();
+                lane.executed.incrementAndGet();
+                return runnable;
+            }
+        }
+        return null;
+    }
+
+    private static void reschedule() {
+        for (Lane lane : lanes) {
+            if (!lane.queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                Platform.runLater(PriorityScheduler::drain);
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the time budget of a single drain in nanoseconds.
+     */
+    public static long getBudget() {
+        return budget;
+    }
+
+    public static void setBudget(long budget) {
+        if (budget <= 0) {
+            throw new IllegalArgumentException("Budget must be positive.");
+        }
+        PriorityScheduler.budget = budget;
+    }
+
+    public enum Lane {
+
+        /**
+         * Updates caused by user input, e.g. key strokes or clicks.
+         */
+        INPUT,
+        /**
+         * Regular deferred UI work.
+         */
+        NORMAL,
+        /**
+         * Bulk or background-sourced updates.
+         */
+        BACKGROUND;
+
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+        private final AtomicLong executed = new AtomicLong();
+        private final Executor executor = runnable -> post(this, runnable);
+
+        /**
+         * @return the number of runnables currently waiting in this lane.
+         */
+        public int getDepth() {
+            return this.depth.get();
+        }
+
+        /**
+         * @return the highest depth this lane reached since the last {@link #resetMetrics()}.
+         */
+        public int getPeakDepth() {
+            return this.peak.get();
+        }
+
+        /**
+         * @return the number of runnables run from this lane since the last
+         * {@link #resetMetrics()}.
+         */
+        public long getExecuted() {
+            return this.executed.get();
+        }
+
+        public void resetMetrics() {
+            this.peak.set(this.depth.get());
+            this.executed.set(0);
+        }
+
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.scheduler;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WritableValue;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Coalesces property writes made by bindings and applies the latest values once per JavaFX
+ * pulse, right before the layout pass of the scene the written node belongs to.
+ * <p>
+ * Every scene has its own queue. Dirty properties are flushed in the order they were first
+ * marked dirty, scenes in the order they first received a write. Writes made while scheduling is
+ * disabled, off the application thread or to nodes whose scene is not in a showing window are
+ * applied immediately, as such scenes do not pulse. Pending writes of a scene are applied as soon
+ * as its window is hidden.
+ * A pending write is dropped if the property changes by other means before the pulse, so a
+ * direct {@code set} always wins over an earlier binding write.
+ *
+ * @since 0.7.8
+ */
+public final class RenderScheduler {
+
+    private static final Map<Scene, SceneQueue> queues = new LinkedHashMap<>();
+    private static volatile boolean enabled;
+
+    @Contract(pure = true)
+    private RenderScheduler() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        RenderScheduler.enabled = enabled;
+        if (!enabled && Platform.isFxApplicationThread()) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes {@code value} to {@code property} of {@code node}, deferred to the next pulse if
+     * scheduling is enabled. A later write to the same property before the pulse replaces the
+     * earlier one.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void write(@NotNull Node node, @NotNull WritableValue<T> property, @Nullable T value) {
+        var scene = node.getScene();
+        var window = scene == null ? null : scene.getWindow();
+        if (!enabled || window == null || !window.isShowing() || !Platform.isFxApplicationThread()) {
+            property.setValue(value);
+        } else {
+            var queue = queues.get(scene);
+            if (queue == null) {
+                queue = new SceneQueue(scene, window);
+                queues.put(scene, queue);
+                scene.addPreLayoutPulseListener(queue);
+                window.showingProperty().addListener(queue.hidden);
+                Platform.requestNextPulse();
+            }
+            if (!queue.writes.containsKey(property) && property instanceof ObservableValue) {
+                ((ObservableValue<T>) property).addListener(queue);
+            }
+            queue.writes.put((WritableValue<Object>) property, value);
+        }
+    }
+
+    /**
+     * Applies all pending writes of all scenes immediately.
+     */
+    public static void flush() {
+        for (SceneQueue queue : new ArrayList<>(queues.values())) {
+            queue.run();
+        }
+    }
+
+    /**
+     * @return the number of properties with pending writes.
+     */
+    public static int getPending() {
+        var pending = 0;
+        for (SceneQueue queue : queues.values()) {
+            pending += queue.writes.size();
+        }
+        return pending;
+    }
+
+    private static final class SceneQueue implements Runnable, ChangeListener<Object> {
+
+        private final Scene scene;
+        private final Window window;
+        private final Map<WritableValue<Object>, Object> writes;
+        private final InvalidationListener hidden;
+
+        @Contract(pure = true)
+        private SceneQueue(@NotNull Scene scene, @NotNull Window window) {
+            this.scene = scene;
+            this.window = window;
+            this.writes = new LinkedHashMap<>();
+            this.hidden = observable -> {
+                if (!this.window.isShowing()) {
+                    this.run();
+                }
+            };
+        }
+
+        @Override
+        public void run() {
+            if (queues.get(this.scene) == this) {
+                queues.remove(this.scene);
+                this.scene.removePreLayoutPulseListener(this);
+                this.window.showingProperty().removeListener(this.hidden);
+                for (WritableValue<Object> property : this.writes.keySet()) {
+                    if (property instanceof ObservableValue) {
+                        ((ObservableValue<?>) property).removeListener(this);
+                    }
+                }
+                this.writes.forEach(WritableValue::setValue);
+            }
+        }
+
+        @Override
+        public void changed(ObservableValue<?> observable, Object oldValue, Object newValue) {
+            observable.removeListener(this);
+            this.writes.remove(observable);
+        }
+
+    }
+
+}
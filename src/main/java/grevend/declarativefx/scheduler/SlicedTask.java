@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.scheduler;
+
+import grevend.declarativefx.component.Component;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Appends components built from a list of elements to a parent in chunks, one chunk per pulse,
+ * each limited by a per-frame time budget. At least one element is processed per pulse.
+ *
+ * @param <E> the type of the elements.
+ *
+ * @see TimeSlicer
+ * @since 0.7.8
+ */
+public final class SlicedTask<E> {
+
+    private final Component<? extends Node> parent;
+    private final List<E> elements;
+    private final Function<E, Component<? extends Node>> build;
+    private final long budget;
+    private final BiConsumer<Integer, Integer> progress;
+    private final CompletableFuture<Component<? extends Node>> future;
+    private final AnimationTimer timer;
+    private int index;
+
+    @Contract(pure = true)
+    SlicedTask(@NotNull Component<? extends Node> parent, @NotNull List<E> elements, @NotNull Function<E, Component<? extends Node>> build, long budget, @Nullable BiConsumer<Integer, Integer> progress) {
+        this.parent = parent;
+        this.elements = elements;
+        this.build = build;
+        this.budget = budget;
+        this.progress = progress;
+        this.future = new CompletableFuture<>();
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                slice();
+            }
+        };
+    }
+
+    void start() {
+        if (this.elements.isEmpty()) {
+            this.complete();
+        } else {
+            this.timer.start();
+        }
+    }
+
+    private void slice() {
+        if (this.future.isDone()) {
+            this.timer.stop();
+            return;
+        }
+        var deadline = System.nanoTime() + this.budget;
+        var components = new ArrayList<Component<? extends Node>>();
+        do {
+            var component = this.build.apply(this.elements.get(this.index++));
+            if (component != null) {
+                components.add(component);
+            }
+        } while (this.index < this.elements.size() && System.nanoTime() < deadline);
+        this.parent.getChildren().addAll(components);
+        if (this.progress != null) {
+            this.progress.accept(this.index, this.elements.size());
+        }
+        if (this.index == this.elements.size()) {
+            this.complete();
+        }
+    }
+
+    private void complete() {
+        this.timer.stop();
+        this.future.complete(this.parent);
+    }
+
+    /**
+     * Stops the task, components appended so far stay attached.
+     *
+     * @return {@code false} if the task had already finished.
+     */
+    public boolean cancel() {
+        this.timer.stop();
+        return this.future.cancel(false);
+    }
+
+    public boolean isCancelled() {
+        return this.future.isCancelled();
+    }
+
+    /**
+     * @return the number of elements processed so far.
+     */
+    public int getProcessed() {
+        return this.index;
+    }
+
+    public int getTotal() {
+        return this.elements.size();
+    }
+
+    /**
+     * @return a future completed with the parent once all elements were processed.
+     */
+    @NotNull
+    public CompletableFuture<Component<? extends Node>> getFuture() {
+        return this.future;
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.scheduler;
+
+import grevend.declarativefx.bindable.BindableCollection;
+import grevend.declarativefx.bindable.Change;
+import grevend.declarativefx.component.Component;
+import grevend.declarativefx.component.Memo;
+import javafx.scene.Node;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Splits large child insertions and builder rebuilds into chunks spread across successive
+ * pulses, so that the application thread never exceeds a per-frame time budget.
+ * Must be used on the JavaFX application thread.
+ *
+ * @since 0.7.8
+ */
+public final class TimeSlicer {
+
+    /**
+     * The default per-frame time budget in nanoseconds, half of a 60 Hz frame.
+     */
+    public static final long DEFAULT_BUDGET = TimeUnit.MILLISECONDS.toNanos(8);
+
+    @Contract(pure = true)
+    private TimeSlicer() {
+    }
+
+    @NotNull
+    public static SlicedTask<Component<? extends Node>> addChildren(@NotNull Component<? extends Node> parent, @NotNull Collection<? extends Component<? extends Node>> children) {
+        return addChildren(parent, children, DEFAULT_BUDGET, null);
+    }
+
+    /**
+     * Appends {@code children} to {@code parent}, at most as many per pulse as fit into the
+     * time budget.
+     *
+     * @param budget   the per-frame time budget in nanoseconds.
+     * @param progress invoked after each chunk with the number of processed and total children.
+     */
+    @NotNull
+    public static SlicedTask<Component<? extends Node>> addChildren(@NotNull Component<? extends Node> parent, @NotNull Collection<? extends Component<? extends Node>> children, long budget, @Nullable BiConsumer<Integer, Integer> progress) {
+        var task = new SlicedTask<Component<? extends Node>>(parent, new ArrayList<>(children), Function.identity(),
+            budget, progress);
+        task.start();
+        return task;
+    }
+
+    @NotNull
+    public static <N extends Node, C extends Component<N>, E> C builder(@NotNull C component, @NotNull BindableCollection<E> collection, @NotNull Function<E, Component<? extends Node>> build) {
+        return builder(component, collection, build, DEFAULT_BUDGET, null);
+    }
+
+    /**
+     * Keeps the children of {@code component} in sync with {@code collection} like
+     * {@code Compat.builder}, but builds and appends them in time-sliced chunks. A change of the
+     * collection while a rebuild is in flight cancels it and starts over. A {@link Memo} is swept
+     * whenever a rebuild completes, a cancelled rebuild only {@link Memo#restart() restarts} it,
+     * so that the replacing rebuild reuses all of its components.
+     *
+     * @param budget   the per-frame time budget in nanoseconds.
+     * @param progress invoked after each chunk with the number of processed and total elements.
+     */
+    @NotNull
+    public static <N extends Node, C extends Component<N>, E> C builder(@NotNull C component, @NotNull BindableCollection<E> collection, @NotNull Function<E, Component<? extends Node>> build, long budget, @Nullable BiConsumer<Integer, Integer> progress) {
+        var running = new AtomicReference<SlicedTask<E>>();
+        BiConsumer<Change, Collection<? extends E>> consumer = (change, changes) -> {
+            var task = new SlicedTask<>(component, new ArrayList<>(collection), build, budget, progress);
+            var previous = running.getAndSet(task);
+            if (previous != null && previous.cancel() && build instanceof Memo) {
+                ((Memo<E>) build).restart();
+            }
+            component.getChildren().clear();
+            if (build instanceof Memo) {
+                task.getFuture().thenRun(((Memo<E>) build)::sweep);
+            }
+            task.start();
+        };
+        collection.subscribe(consumer);
+        consumer.accept(Change.NONE, List.of());
+        return component;
+    }
+
+}
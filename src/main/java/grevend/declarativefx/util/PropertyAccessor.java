@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.util;
+
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Resolves a JavaFX property of a node through its {@code xxxProperty()} method.
+ * <p>
+ * The first call spins a {@link Function} implementation for the property method with
+ * {@link LambdaMetafactory}, so all further calls are plain interface calls instead of
+ * reflective invocations. If the method cannot be linked that way, for example because its
+ * declaring class is not accessible from this module, reflection is used as a fallback.
+ */
+public final class PropertyAccessor implements Function<Node, ObservableValue<Object>> {
+
+    private static final String SUFFIX = "Property";
+
+    private final String name;
+    private final Method method;
+    private volatile Function<Node, ObservableValue<Object>> function;
+
+    @Contract(pure = true)
+    private PropertyAccessor(@NotNull String name, @NotNull Method method) {
+        this.name = name;
+        this.method = method;
+    }
+
+    /**
+     * @return {@code true} if the method is a public, parameterless {@code xxxProperty()}
+     * method returning an {@link Observable}
+     */
+    public static boolean isPropertyMethod(@NotNull Method method) {
+        var modifiers = method.getModifiers();
+        return Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers) && method.getParameterCount() == 0 &&
+            method.getName().endsWith(SUFFIX) && Observable.class.isAssignableFrom(method.getReturnType());
+    }
+
+    /**
+     * @return the lower case property name of a property method, e.g. {@code prompttext}
+     * for {@code promptTextProperty()}
+     */
+    @NotNull
+    public static String propertyName(@NotNull Method method) {
+        var name = method.getName();
+        return name.substring(0, name.length() - SUFFIX.length()).toLowerCase(Locale.ROOT);
+    }
+
+    @NotNull
+    @Contract("_ -> new")
+    public static PropertyAccessor of(@NotNull Method method) {
+        return new PropertyAccessor(propertyName(method), method);
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    @NotNull
+    public Method getMethod() {
+        return method;
+    }
+
+    @Override
+    public ObservableValue<Object> apply(@NotNull Node node) {
+        var function = this.function;
+        if (function == null) {
+            function = this.link(node);
+        }
+        return function.apply(node);
+    }
+
+    @NotNull
+    private synchronized Function<Node, ObservableValue<Object>> link(@NotNull Node node) {
+        if (this.function == null) {
+            Function<Node, ObservableValue<Object>> function;
+            try {
+                function = spin(this.method);
+                function.apply(node);
+            } catch (Throwable throwable) {
+                function = this::invoke;
+            }
+            this.function = function;
+        }
+        return this.function;
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private ObservableValue<Object> invoke(@NotNull Node node) {
+        try {
+            return (ObservableValue<Object>) this.method.invoke(node);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Property " + this.name + " could not be accessed.", e);
+        }
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private static Function<Node, ObservableValue<Object>> spin(@NotNull Method method) throws Throwable {
+        var lookup = MethodHandles.lookup();
+        var handle = lookup.unreflect(method);
+        var site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+            MethodType.methodType(Object.class, Object.class), handle, handle.type());
+        return (Function<Node, ObservableValue<Object>>) site.getTarget().invokeExact();
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return "PropertyAccessor{name=" + name + ", method=" + method + '}';
+    }
+
+}
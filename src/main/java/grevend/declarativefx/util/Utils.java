@@ -24,55 +24,85 @@
 
 package grevend.declarativefx.util;
 
-import javafx.beans.Observable;
+import grevend.declarativefx.property.FXProperties;
+import grevend.declarativefx.property.PropertyDescriptor;
 import javafx.beans.value.ObservableValue;
 import javafx.scene.Node;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class Utils {
 
-    public final static Map<Class<? extends Node>, Map<String, String>> propertyNames =
-        new HashMap<>();
+    private final static ClassValue<Map<String, PropertyAccessor>> propertyAccessors =
+        new ClassValue<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected Map<String, PropertyAccessor> computeValue(Class<?> type) {
+                return Node.class.isAssignableFrom(type) ?
+                    Map.copyOf(getPropertyAccessors((Class<? extends Node>) type)) : Map.of();
+            }
+        };
 
     @NotNull
     public static <N extends Node> Map<String, String> getPropertyNames(@NotNull Class<N> nodeClass) {
-        return Arrays.stream(nodeClass.getMethods()).filter(
-            m -> m.getName().contains("Property") && Observable.class.isAssignableFrom(m.getReturnType()) &&
-                Modifier.isPublic(m.getModifiers()))
-            .collect(Collectors.toMap(m -> m.getName().replaceAll("Property", "").toLowerCase(), Method::getName));
+        var accessors = propertyAccessors.get(nodeClass);
+        var names = new HashMap<String, String>(accessors.size() * 2);
+        accessors.forEach((name, accessor) -> names.put(name, accessor.getMethod().getName()));
+        return names;
+    }
+
+    @NotNull
+    public static <N extends Node> Map<String, PropertyAccessor> getPropertyAccessors(@NotNull Class<N> nodeClass) {
+        var accessors = new HashMap<String, PropertyAccessor>();
+        for (Method method : nodeClass.getMethods()) {
+            if (PropertyAccessor.isPropertyMethod(method)) {
+                accessors.putIfAbsent(PropertyAccessor.propertyName(method), PropertyAccessor.of(method));
+            }
+        }
+        return accessors;
     }
 
+    /**
+     * Returns the cached accessor of a property, the metadata of every node class is computed
+     * once without locking and is released together with the class.
+     *
+     * @param nodeClass the class of the node
+     * @param property  the lower case name of the property
+     */
+    @Nullable
+    public static PropertyAccessor getPropertyAccessor(@NotNull Class<? extends Node> nodeClass, @NotNull String property) {
+        return propertyAccessors.get(nodeClass).get(property);
+    }
+
+    /**
+     * Resolves a property through the generated {@link FXProperties} descriptors and falls back
+     * to the reflective accessors for node classes that are not covered by them.
+     */
     @Nullable
     @SuppressWarnings("unchecked")
-    public static synchronized <N extends Node> ObservableValue<?> getObservableValue(@NotNull N node, @NotNull Map<String, ObservableValue<Object>> properties, @NotNull String property) {
-        var nodeClass = node.getClass();
-        if (properties.containsKey(property.toLowerCase())) {
-            return properties.get(property.toLowerCase());
-        } else {
-            if (!propertyNames.containsKey(nodeClass)) {
-                propertyNames.put(nodeClass, Utils.getPropertyNames(nodeClass));
-            }
-            if (propertyNames.get(nodeClass).containsKey(property.toLowerCase())) {
-                try {
-                    properties.put(property.toLowerCase(),
-                        (ObservableValue<Object>) nodeClass
-                            .getMethod(propertyNames.get(nodeClass).get(property.toLowerCase())).invoke(node));
-                    return properties.get(property.toLowerCase());
-                } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-                    e.printStackTrace();
+    public static <N extends Node> ObservableValue<?> getObservableValue(@NotNull N node, @NotNull Map<String, ObservableValue<Object>> properties, @NotNull String property) {
+        var name = property.toLowerCase(Locale.ROOT);
+        var observableValue = properties.get(name);
+        if (observableValue == null) {
+            var descriptor = (PropertyDescriptor<Node, Object>) FXProperties.find(node.getClass(), name);
+            if (descriptor != null) {
+                observableValue = descriptor.observe(node);
+            } else {
+                var accessor = getPropertyAccessor(node.getClass(), name);
+                if (accessor != null) {
+                    observableValue = accessor.apply(node);
                 }
             }
-            return null;
+            if (observableValue != null) {
+                properties.put(name, observableValue);
+            }
         }
+        return observableValue;
     }
 
 }
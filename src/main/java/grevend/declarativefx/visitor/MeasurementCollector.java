@@ -52,6 +52,42 @@ public class MeasurementCollector extends HierarchyVisitor {
         return this.getMeasurements();
     }
 
+    /**
+     * Collects the measurements like {@link #collect(Component)}, aggregating the subtrees in
+     * parallel.
+     *
+     * @since 0.7.8
+     */
+    @NotNull
+    public Map<String, Duration> collectParallel(@NotNull Component<? extends Node> root) {
+        var measurements = new ParallelHierarchyVisitor<Map<String, Duration>>() {
+
+            @NotNull
+            @Override
+            protected Map<String, Duration> createAccumulator() {
+                return new HashMap<>();
+            }
+
+            @Override
+            protected <N extends Node> void visit(@NotNull Component<N> component, @NotNull Map<String, Duration> accumulator) {
+                if (component instanceof MeasuredComponent) {
+                    ((MeasuredComponent<N>) component).getMeasurements().forEach((measurement, duration) ->
+                        accumulator.merge(measurement, duration, Duration::plus));
+                }
+            }
+
+            @NotNull
+            @Override
+            protected Map<String, Duration> merge(@NotNull Map<String, Duration> left, @NotNull Map<String, Duration> right) {
+                right.forEach((measurement, duration) -> left.merge(measurement, duration, Duration::plus));
+                return left;
+            }
+
+        }.start(root);
+        measurements.forEach((measurement, duration) -> this.measurements.merge(measurement, duration, Duration::plus));
+        return this.getMeasurements();
+    }
+
     @Override
     public <N extends Node> void visit(@NotNull Component<N> component) {
         if (component instanceof MeasuredComponent) {
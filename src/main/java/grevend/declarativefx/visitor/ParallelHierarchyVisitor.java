@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.visitor;
+
+import grevend.declarativefx.component.Component;
+import javafx.scene.Node;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A fork-join counterpart of {@link HierarchyVisitor} for read-only analyses of large trees.
+ * <p>
+ * The descendants of the root are split at subtrees using {@link Component#spliterator()}.
+ * Every task visits its part into an accumulator of its own, and the accumulators are merged
+ * in encounter order, the root first, so order sensitive results stay deterministic.
+ * <p>
+ * Visiting happens on the threads of the pool while the calling thread waits for the result.
+ * Started on the JavaFX application thread the tree can therefore not change during the
+ * analysis, but {@link #visit(Component, Object)} must still restrict itself to reads without
+ * side effects: {@link Component#getNode()}, {@link Component#isLeaf()},
+ * {@link Component#isMarked()}, {@link Component#isDecorated()},
+ * {@link Component#stringify(grevend.declarativefx.util.Verbosity)}, iterating
+ * {@link Component#getChildren()} of non-leaf components and plain getters of the node such as
+ * {@link Node#getId()} or {@link Node#getStyleClass()}. Methods that create state lazily, e.g.
+ * {@code getChildren()} of a leaf, {@code get} of a property that was never resolved or any
+ * {@code *Property()} accessor of the node, as well as all mutating methods, are not safe.
+ *
+ * @param <A> the type of the accumulators.
+ *
+ * @since 0.7.8
+ */
+public abstract class ParallelHierarchyVisitor<A> {
+
+    private final ForkJoinPool pool;
+    private long threshold;
+
+    @Contract(pure = true)
+    public ParallelHierarchyVisitor() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    @Contract(pure = true)
+    public ParallelHierarchyVisitor(@NotNull ForkJoinPool pool) {
+        this.pool = pool;
+        this.threshold = 512;
+    }
+
+    /**
+     * @return a new, empty accumulator for a single task.
+     */
+    @NotNull
+    protected abstract A createAccumulator();
+
+    protected abstract <N extends Node> void visit(@NotNull Component<N> component, @NotNull A accumulator);
+
+    /**
+     * @param left  the accumulator of the components encountered first.
+     * @param right the accumulator of the components encountered afterwards.
+     *
+     * @return the combined accumulator, which may be {@code left} itself.
+     */
+    @NotNull
+    protected abstract A merge(@NotNull A left, @NotNull A right);
+
+    /**
+     * Visits {@code root} and all of its descendants.
+     *
+     * @return the merged accumulator.
+     */
+    @NotNull
+    protected A start(@NotNull Component<? extends Node> root) {
+        var accumulator = this.createAccumulator();
+        this.visit(root, accumulator);
+        return this.merge(accumulator, this.pool.invoke(new VisitorTask(root.spliterator())));
+    }
+
+    public long getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * @param threshold the number of components below which a task stops splitting.
+     */
+    public void setThreshold(long threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive.");
+        }
+        this.threshold = threshold;
+    }
+
+    private final class VisitorTask extends RecursiveTask<A> {
+
+        private final Spliterator<Component<? extends Node>> spliterator;
+
+        @Contract(pure = true)
+        private VisitorTask(@NotNull Spliterator<Component<? extends Node>> spliterator) {
+            this.spliterator = spliterator;
+        }
+
+        @Override
+        protected A compute() {
+            var forked = new ArrayList<VisitorTask>();
+            Spliterator<Component<? extends Node>> prefix;
+            while (this.spliterator.estimateSize() > threshold && (prefix = this.spliterator.trySplit()) != null) {
+                var task = new VisitorTask(prefix);
+                task.fork();
+                forked.add(task);
+            }
+            var accumulator = createAccumulator();
+            this.spliterator.forEachRemaining(component -> visit(component, accumulator));
+            if (forked.isEmpty()) {
+                return accumulator;
+            }
+            var result = forked.get(0).join();
+            for (var i = 1; i < forked.size(); i++) {
+                result = merge(result, forked.get(i).join());
+            }
+            return merge(result, accumulator);
+        }
+
+    }
+
+}
@@ -14,6 +14,9 @@ open module DeclarativeFX {
     exports grevend.declarativefx.decorator;
     exports grevend.declarativefx.event;
     exports grevend.declarativefx.iterator;
+    exports grevend.declarativefx.property;
+    exports grevend.declarativefx.query;
+    exports grevend.declarativefx.scheduler;
     exports grevend.declarativefx.test;
     exports grevend.declarativefx.test.junit;
     exports grevend.declarativefx.util;
@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 David Greven
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package grevend.declarativefx.bindable;
+
+import javafx.collections.MapChangeListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ObservableBindableMapTest {
+
+    @Test
+    void listenerRemovingItselfDuringChange() {
+        var map = BindableMap.<String, Integer>empty();
+        var observable = map.toObservableMap();
+        var changes = new ArrayList<String>();
+        observable.addListener(new MapChangeListener<String, Integer>() {
+            @Override
+            public void onChanged(Change<? extends String, ? extends Integer> change) {
+                changes.add(change.getKey());
+                observable.removeListener(this);
+            }
+        });
+        map.subscribe((change, entries) -> entries.forEach(entry -> changes.add(entry.getKey() + "'")));
+
+        map.put("a", 1);
+        map.put("b", 2);
+
+        assertEquals(List.of("a", "a'", "b'"), changes);
+    }
+
+}